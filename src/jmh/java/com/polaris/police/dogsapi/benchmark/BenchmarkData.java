@@ -0,0 +1,81 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.polaris.police.dogsapi.config.CachingMessageSource;
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.entity.Supplier;
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.model.enums.Gender;
+import com.polaris.police.dogsapi.model.enums.LeavingReason;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures shared by the benchmarks. Records are fully populated so that every mapped and serialized field
+ * is exercised.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<Dog> dogs(int size) {
+        Supplier supplier = Supplier.builder().id(1).supplierName("breeder").build();
+        List<Dog> dogs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dogs.add(Dog.builder()
+                    .id((long) i + 1)
+                    .name("Rex " + i)
+                    .breed("German Shepherd")
+                    .badgeId("K9-" + i)
+                    .birthDate(LocalDate.of(2021, 5, 20))
+                    .dateAcquired(LocalDate.of(2022, 2, 15))
+                    .gender(Gender.MALE)
+                    .currentStatus(DogStatus.IN_SERVICE)
+                    .leavingReason(LeavingReason.TRANSFERRED)
+                    .kennellingCharacteristic("Strong, obedient, and alert. Excellent tracking ability.")
+                    .deleted(false)
+                    .supplier(supplier)
+                    .build());
+        }
+        return dogs;
+    }
+
+    static List<DogDTO> dogDTOs(int size) {
+        List<DogDTO> dtoList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dtoList.add(DogDTO.builder()
+                    .id((long) i + 1)
+                    .name("Rex " + i)
+                    .breed("German Shepherd")
+                    .supplierId(1)
+                    .supplierName("breeder")
+                    .badgeId("K9-" + i)
+                    .birthDate(LocalDate.of(2021, 5, 20))
+                    .dateAcquired(LocalDate.of(2022, 2, 15))
+                    .gender(Gender.MALE)
+                    .currentStatus(DogStatus.IN_SERVICE)
+                    .leavingReason(LeavingReason.TRANSFERRED)
+                    .kennellingCharacteristic("Strong, obedient, and alert. Excellent tracking ability.")
+                    .build());
+        }
+        return dtoList;
+    }
+
+    /**
+     * Same message bundle and settings the application uses
+     */
+    static MessageSource messageSource() {
+        return new CachingMessageSource(resourceBundleMessageSource());
+    }
+
+    static ResourceBundleMessageSource resourceBundleMessageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
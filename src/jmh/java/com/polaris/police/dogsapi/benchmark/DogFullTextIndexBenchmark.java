@@ -0,0 +1,64 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.service.impl.DogFullTextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free text search of the in-memory index with exact, prefix and misspelled words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogFullTextIndexBenchmark {
+
+    private static final String[] NAMES = {"Rex", "Bella", "Max", "Luna", "Charlie", "Lucy", "Rocky", "Molly", "Buddy", "Daisy"};
+    private static final String[] BREEDS = {"German Shepherd", "Labrador Retriever", "Belgian Malinois", "Springer Spaniel"};
+    private static final String[] CHARACTERISTICS = {
+            "Strong, obedient, and alert. Excellent tracking ability.",
+            "Calm temperament and highly social.",
+            "Energetic and eager to learn.",
+            "Friendly and reliable detection skills."
+    };
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private DogFullTextIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new DogFullTextIndex(null);
+        for (Dog dog : BenchmarkData.dogs(size)) {
+            int i = dog.getId().intValue();
+            dog.setName(NAMES[i % NAMES.length] + " " + i);
+            dog.setBreed(BREEDS[i % BREEDS.length]);
+            dog.setKennellingCharacteristic(CHARACTERISTICS[i / NAMES.length % CHARACTERISTICS.length]);
+            index.put(dog);
+        }
+    }
+
+    @Benchmark
+    public List<Long> exactWord() {
+        return index.search("malinois", 20);
+    }
+
+    @Benchmark
+    public List<Long> prefix() {
+        return index.search("lab", 20);
+    }
+
+    @Benchmark
+    public List<Long> misspelledWords() {
+        return index.search("shepard trackng", 20);
+    }
+}
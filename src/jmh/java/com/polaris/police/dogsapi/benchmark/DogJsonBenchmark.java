@@ -0,0 +1,77 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.polaris.police.dogsapi.controller.converter.DogProtobufHttpMessageConverter;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the list endpoint response body in each supported format: JSON, CBOR, Smile and protobuf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogJsonBenchmark {
+
+    private static final Type DOG_LIST = ResolvableType.forClassWithGenerics(List.class, DogDTO.class).getType();
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private DogProtobufHttpMessageConverter protobufConverter;
+    private List<DogDTO> dtoList;
+
+    @Setup
+    public void setUp() {
+        // Matches the Spring Boot defaults for the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // Same builders Spring MVC uses for the CBOR and Smile converters
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        protobufConverter = new DogProtobufHttpMessageConverter();
+        dtoList = BenchmarkData.dogDTOs(size);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtoList);
+    }
+
+    @Benchmark
+    public byte[] serializeListCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(dtoList);
+    }
+
+    @Benchmark
+    public byte[] serializeListSmile() throws JsonProcessingException {
+        return smileMapper.writeValueAsBytes(dtoList);
+    }
+
+    @Benchmark
+    public byte[] serializeListProtobuf() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        protobufConverter.write(dtoList, DOG_LIST, DogProtobufHttpMessageConverter.PROTOBUF, message);
+        return message.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,58 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.mapper.DogMapper;
+import com.polaris.police.dogsapi.model.db.mapper.DogMapperImpl;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping used by every read endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogMapperBenchmark {
+
+    private DogMapper dogMapper;
+    private Dog dog;
+
+    @State(Scope.Benchmark)
+    public static class DogList {
+
+        @Param({"1", "100", "10000"})
+        private int size;
+
+        private List<Dog> dogs;
+
+        @Setup
+        public void setUp() {
+            dogs = BenchmarkData.dogs(size);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        dogMapper = new DogMapperImpl();
+        dog = BenchmarkData.dogs(1).get(0);
+    }
+
+    @Benchmark
+    public DogDTO toDto() {
+        return dogMapper.toDto(dog);
+    }
+
+    @Benchmark
+    public List<DogDTO> toDtoList(DogList dogList) {
+        return dogMapper.toDtoList(dogList.dogs);
+    }
+}
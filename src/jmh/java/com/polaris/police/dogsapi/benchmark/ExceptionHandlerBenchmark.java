@@ -0,0 +1,104 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.polaris.police.dogsapi.controller.DogController;
+import com.polaris.police.dogsapi.exception.GlobalExceptionHandler;
+import com.polaris.police.dogsapi.exception.ResourceNotFoundException;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.response.MessageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.MessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error response building in {@link GlobalExceptionHandler}. The single message path is measured through the
+ * not found handler and the field error list path through the validation handler with {@code size} field errors.
+ * A missing record is also measured end to end, from resolving the message to the response, and message resolution
+ * is compared with and without the template cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExceptionHandlerBenchmark {
+
+    private static final Object[] RECORD_ID = {1L};
+
+    private GlobalExceptionHandler handler;
+    private WebRequest webRequest;
+    private ResourceNotFoundException notFoundException;
+    private MessageSource messageSource;
+    private MessageSource uncachedMessageSource;
+
+    @State(Scope.Benchmark)
+    public static class ValidationErrors {
+
+        @Param({"1", "100", "10000"})
+        private int size;
+
+        private MethodArgumentNotValidException exception;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            MethodParameter parameter = new MethodParameter(DogController.class.getMethod("create", DogDTO.class), 0);
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new DogDTO(), "dogDTO");
+            for (int i = 0; i < size; i++) {
+                bindingResult.addError(new FieldError("dogDTO", "name", "a".repeat(201), false,
+                        new String[]{"Size.dogDTO.name", "Size"}, new Object[]{200}, "must be less than or equal to 200 characters"));
+            }
+            exception = new MethodArgumentNotValidException(parameter, bindingResult);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        messageSource = BenchmarkData.messageSource();
+        uncachedMessageSource = BenchmarkData.resourceBundleMessageSource();
+        handler = new GlobalExceptionHandler(messageSource);
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/dogs/1"));
+        notFoundException = new ResourceNotFoundException("Record 1 does not exist");
+    }
+
+    @Benchmark
+    public ResponseEntity<MessageDTO> singleMessage() {
+        return handler.handleResourceNotFoundException(notFoundException, webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<MessageDTO> notFound() {
+        try {
+            throw new ResourceNotFoundException(messageSource.getMessage("record.not.exist", RECORD_ID, Locale.UK));
+        } catch (ResourceNotFoundException e) {
+            return handler.handleResourceNotFoundException(e, webRequest);
+        }
+    }
+
+    @Benchmark
+    public String message() {
+        return messageSource.getMessage("record.not.exist", RECORD_ID, Locale.UK);
+    }
+
+    @Benchmark
+    public String messageUncached() {
+        return uncachedMessageSource.getMessage("record.not.exist", RECORD_ID, Locale.UK);
+    }
+
+    @Benchmark
+    public ResponseEntity<MessageDTO> fieldErrors(ValidationErrors validationErrors) {
+        return handler.handleMethodArgumentNotValidException(validationErrors.exception, webRequest);
+    }
+}
@@ -0,0 +1,185 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.polaris.police.dogsapi.DogsapiApplication;
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.model.enums.LeavingReason;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test of the search endpoint, comparing the default platform-thread mode with the
+ * virtual-threads profile. Each mode starts the application on a random port, seeds dog records through the
+ * batch endpoint and then keeps {@code load.concurrency} clients busy for {@code load.seconds} seconds after a
+ * warm-up. Throughput, p50 and p99 latency and the error count are printed and written as JSON to
+ * {@code load.result.file}.
+ * <p>
+ * The Spring caches and the Hibernate query cache are turned off and the clients walk through every page of each
+ * breed, so each request runs its queries on a pooled connection and the modes are compared on JDBC blocking rather
+ * than on cache hits.
+ * <p>
+ * Run with: mvn -Pbenchmark test-compile exec:exec@load-test
+ */
+public final class SearchLoadTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String[] BREEDS = {"German Shepherd", "Labrador Retriever", "Belgian Malinois", "Springer Spaniel"};
+
+    private final int concurrency = Integer.getInteger("load.concurrency", 400);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup.seconds", 10));
+    private final Duration measurement = Duration.ofSeconds(Integer.getInteger("load.seconds", 30));
+    private final int records = Integer.getInteger("load.records", 5000);
+    private final int pages = Math.max(1, records / BREEDS.length / PAGE_SIZE);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        SearchLoadTest loadTest = new SearchLoadTest();
+        Map<String, Result> results = new LinkedHashMap<>();
+        results.put("platform-threads", loadTest.run());
+        results.put("virtual-threads", loadTest.run("virtual-threads"));
+
+        System.out.printf("%n%-18s %12s %10s %10s %8s%n", "Mode", "Requests/s", "p50 (ms)", "p99 (ms)", "Errors");
+        results.forEach((mode, result) -> System.out.printf("%-18s %12.1f %10.2f %10.2f %8d%n",
+                mode, result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+
+        Path resultFile = Path.of(System.getProperty("load.result.file", "target/benchmark/load-test.json"));
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        loadTest.objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), results);
+        System.out.println("Load test result is saved to " + resultFile.toAbsolutePath());
+    }
+
+    private Result run(String... profiles) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DogsapiApplication.class)
+                .profiles(profiles)
+                // Arguments, unlike default properties, take precedence over application.yml
+                .run("--server.port=0", "--logging.level.root=WARN", "--dogsapi.rate-limit.enabled=false",
+                        "--spring.cache.type=none", "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/dogs";
+            seed(baseUrl);
+            drive(baseUrl, warmup);
+            return drive(baseUrl, measurement);
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(String baseUrl) throws IOException, InterruptedException {
+        for (int offset = 0; offset < records; offset += 500) {
+            List<DogDTO> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 500, records); i++) {
+                batch.add(DogDTO.builder()
+                        .name("Dog " + i)
+                        .breed(BREEDS[i % BREEDS.length])
+                        .supplierId(i % 2 + 1)
+                        .badgeId("K9-" + i)
+                        .currentStatus(DogStatus.IN_SERVICE)
+                        .leavingReason(LeavingReason.TRANSFERRED)
+                        .build());
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    private Result drive(String baseUrl, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                int client = c;
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    int n = client;
+                    while (System.nanoTime() < deadline) {
+                        String breed = BREEDS[n % BREEDS.length].replace(" ", "%20");
+                        int pageNum = n / BREEDS.length % pages;
+                        n++;
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "?pageSize=" + PAGE_SIZE
+                                + "&pageNum=" + pageNum + "&breed=" + breed)).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        List<long[]> perClient = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(
+                all.length / (double) duration.toSeconds(),
+                percentile(all, 0.50) / 1_000_000.0,
+                percentile(all, 0.99) / 1_000_000.0,
+                errors.get());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * Measured results of one mode
+     *
+     * @param throughput - Completed requests per second
+     * @param p50Millis - Median latency
+     * @param p99Millis - 99th percentile latency
+     * @param errors - Non 200 responses and I/O failures
+     */
+    public record Result(double throughput, double p50Millis, double p99Millis, long errors) {
+    }
+}
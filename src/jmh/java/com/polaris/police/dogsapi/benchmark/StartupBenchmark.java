@@ -0,0 +1,132 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time to first request of the packaged application, comparing a plain start with AOT processing, the CDS archive
+ * and both. Each mode starts the jar extracted by the startup profile {@code startup.runs} times in a new JVM and
+ * polls {@code GET /api/dogs/1} until the dog controller answers. Min and median times are printed and written as
+ * JSON to {@code startup.result.file}.
+ * <p>
+ * Build the application first, then run with:
+ * mvn -Pstartup -DskipTests package
+ * mvn -Pbenchmark test-compile exec:exec@startup
+ */
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final Path applicationDir = Path.of(System.getProperty("startup.application.dir", "target/application"));
+    private final String jarName = System.getProperty("startup.jar", "dogsapi-0.0.1-SNAPSHOT.jar");
+    private final int runs = Integer.getInteger("startup.runs", 5);
+    private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        if (!Files.exists(benchmark.applicationDir.resolve(benchmark.jarName))
+                || !Files.exists(benchmark.applicationDir.resolve("application.jsa"))) {
+            throw new IllegalStateException("Build the application first with: mvn -Pstartup -DskipTests package");
+        }
+
+        String aot = "-Dspring.aot.enabled=true";
+        String cds = "-XX:SharedArchiveFile=application.jsa";
+        Map<String, Result> results = new LinkedHashMap<>();
+        results.put("default", benchmark.run());
+        results.put("aot", benchmark.run(aot));
+        results.put("cds", benchmark.run(cds));
+        results.put("aot-cds", benchmark.run(aot, cds));
+
+        double baseline = results.get("default").medianMillis();
+        System.out.printf("%n%-10s %10s %12s %9s%n", "Mode", "Min (ms)", "Median (ms)", "Speedup");
+        results.forEach((mode, result) -> System.out.printf("%-10s %10d %12d %8.2fx%n",
+                mode, result.minMillis(), result.medianMillis(), baseline / result.medianMillis()));
+
+        Path resultFile = Path.of(System.getProperty("startup.result.file", "target/benchmark/startup.json"));
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), results);
+        System.out.println("Startup benchmark result is saved to " + resultFile.toAbsolutePath());
+    }
+
+    private Result run(String... jvmOptions) throws Exception {
+        long[] millis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            millis[i] = timeToFirstRequest(jvmOptions);
+        }
+        Arrays.sort(millis);
+        return new Result(millis[0], millis[runs / 2], millis);
+    }
+
+    private long timeToFirstRequest(String... jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(Arrays.asList(jvmOptions));
+        command.addAll(List.of("-jar", jarName, "--server.port=" + port, "--logging.level.root=WARN"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/dogs/1")).build();
+
+        long start = System.nanoTime();
+        // Started from the application directory, the archive only matches the class path it was trained with
+        Process process = new ProcessBuilder(command)
+                .directory(applicationDir.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                try {
+                    // Any answer of the controller counts, dog 1 does not exist in an empty database
+                    int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 200 || status == 404) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (ConnectException e) {
+                    // Not listening yet
+                }
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ": " + command);
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new IllegalStateException("Application did not answer within " + TIMEOUT + ": " + command);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Measured results of one mode
+     *
+     * @param minMillis - Fastest time to first request
+     * @param medianMillis - Median time to first request
+     * @param runMillis - Time to first request of every run, sorted
+     */
+    public record Result(long minMillis, long medianMillis, long[] runMillis) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.polaris.police.dogsapi.benchmark;
+
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.request.validator.EnumValueValidator;
+import com.polaris.police.dogsapi.model.request.validator.PrecompiledValidator;
+import com.polaris.police.dogsapi.model.request.validator.ValidEnum;
+import jakarta.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean validation of request bodies. {@link EnumValueValidator} is measured on its own and as part of a
+ * full DogDTO validation. An invalid record takes the message lookup path. The precompiled variants validate through
+ * {@link PrecompiledValidator} into a binding result, as request bodies are, and are compared with Bean Validation
+ * through the same adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private GenericApplicationContext context;
+    private LocalValidatorFactoryBean validator;
+    private SpringValidatorAdapter reflectiveValidator;
+    private PrecompiledValidator precompiledValidator;
+    private EnumValueValidator enumValueValidator;
+    private List<DogDTO> validList;
+    private List<DogDTO> invalidList;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        MessageSource messageSource = BenchmarkData.messageSource();
+        context = new GenericApplicationContext();
+        context.registerBean("messageSource", MessageSource.class, () -> messageSource);
+        context.registerBean(LocalValidatorFactoryBean.class, () -> {
+            LocalValidatorFactoryBean factoryBean = new LocalValidatorFactoryBean();
+            factoryBean.setValidationMessageSource(messageSource);
+            return factoryBean;
+        });
+        context.refresh();
+        validator = context.getBean(LocalValidatorFactoryBean.class);
+        reflectiveValidator = new SpringValidatorAdapter(validator);
+        precompiledValidator = new PrecompiledValidator(validator, DogDTO.class);
+
+        enumValueValidator = new EnumValueValidator(messageSource);
+        enumValueValidator.initialize(DogDTO.class.getDeclaredField("currentStatus").getAnnotation(ValidEnum.class));
+
+        validList = BenchmarkData.dogDTOs(size);
+        invalidList = BenchmarkData.dogDTOs(size);
+        invalidList.forEach(dto -> dto.setCurrentStatus(null));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void enumIsValid(Blackhole blackhole) {
+        // Valid values never touch the context
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(enumValueValidator.isValid(DogStatus.IN_SERVICE, null));
+        }
+    }
+
+    @Benchmark
+    public void validateValid(Blackhole blackhole) {
+        for (DogDTO dto : validList) {
+            Set<ConstraintViolation<DogDTO>> violations = validator.validate(dto);
+            blackhole.consume(violations);
+        }
+    }
+
+    @Benchmark
+    public void validateInvalidEnum(Blackhole blackhole) {
+        for (DogDTO dto : invalidList) {
+            Set<ConstraintViolation<DogDTO>> violations = validator.validate(dto);
+            blackhole.consume(violations);
+        }
+    }
+
+    @Benchmark
+    public void bindValidReflective(Blackhole blackhole) {
+        bind(reflectiveValidator, validList, blackhole);
+    }
+
+    @Benchmark
+    public void bindValidPrecompiled(Blackhole blackhole) {
+        bind(precompiledValidator, validList, blackhole);
+    }
+
+    @Benchmark
+    public void bindInvalidEnumReflective(Blackhole blackhole) {
+        bind(reflectiveValidator, invalidList, blackhole);
+    }
+
+    @Benchmark
+    public void bindInvalidEnumPrecompiled(Blackhole blackhole) {
+        bind(precompiledValidator, invalidList, blackhole);
+    }
+
+    private static void bind(Validator validator, List<DogDTO> dtos, Blackhole blackhole) {
+        for (DogDTO dto : dtos) {
+            Errors errors = new BeanPropertyBindingResult(dto, "dogDTO");
+            validator.validate(dto, errors);
+            blackhole.consume(errors);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.polaris.police.dogsapi;
 
 import org.springframework.boot.SpringApplication;
+import com.polaris.police.dogsapi.config.DogSearchProperties;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
+@EnableConfigurationProperties(DogSearchProperties.class)
 public class DogsapiApplication {
 
 	public static void main(String[] args) {
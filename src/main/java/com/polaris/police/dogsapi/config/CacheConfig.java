@@ -0,0 +1,66 @@
+package com.polaris.police.dogsapi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * In-memory caches used by the service layer. Statistics are recorded so that hit, miss and eviction
+ * counts are published through the actuator metrics endpoint (cache.gets, cache.evictions).
+ * <p>
+ * The cache advice runs outside the transaction advice, so a cache hit does not begin a transaction or borrow a
+ * connection, and entries are only written once the change has committed. A dog record is never replaced by an older
+ * version of it (see {@link VersionedDogCache}).
+ * <p>
+ * With {@code spring.cache.type=none} these caches are not created and every read goes to the database, as in the
+ * load test.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(DogCacheProperties.class)
+public class CacheConfig {
+
+    public static final String DOGS_CACHE = "dogs";
+    public static final String FACETS_CACHE = "dogFacets";
+    public static final String DOG_LISTS_CACHE = "dogLists";
+
+    // One entry per filter combination; entries of earlier write generations are no longer read and age out
+    private static final long FACETS_MAXIMUM_SIZE = 100;
+    // One entry per search and page; entries of earlier write generations are no longer read and age out
+    private static final long DOG_LISTS_MAXIMUM_SIZE = 1000;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager(DogCacheProperties dogCacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return DOGS_CACHE.equals(name)
+                        ? new VersionedDogCache(name, cache, isAllowNullValues()) : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        cacheManager.registerCustomCache(DOGS_CACHE, Caffeine.newBuilder()
+                .maximumSize(dogCacheProperties.maximumSize())
+                .expireAfterWrite(dogCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(FACETS_CACHE, Caffeine.newBuilder()
+                .maximumSize(FACETS_MAXIMUM_SIZE)
+                .expireAfterWrite(dogCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(DOG_LISTS_CACHE, Caffeine.newBuilder()
+                .maximumSize(DOG_LISTS_MAXIMUM_SIZE)
+                .expireAfterWrite(dogCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,164 @@
+package com.polaris.police.dogsapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Keeps every message pattern it resolves as a parsed template per code and locale. Error messages are looked up on
+ * every 404 and validation failure; after the first lookup only the arguments are filled in, without searching the
+ * resource bundles again or locking a shared {@link java.text.MessageFormat}.
+ * <p>
+ * Templates only handle plain {0} placeholders filled with strings or record ids. {@code Long} and {@code Integer}
+ * arguments are written with {@link Long#toString(long)}, without the grouping separators MessageFormat would add from
+ * 1000 up. Patterns with quotes or format types, other arguments, missing codes and resolvables are passed to the
+ * delegate, which must return the unformatted pattern when called without arguments.
+ * <p>
+ * With a cache duration templates expire like the delegate's bundles, so reloaded patterns are picked up. A zero
+ * duration disables the cache.
+ */
+public class CachingMessageSource implements MessageSource {
+
+    // Locales come from the Accept-Language header, so the number of keys is bounded
+    private static final long MAXIMUM_SIZE = 1000;
+
+    private final MessageSource delegate;
+    private final Cache<Key, Optional<Template>> templates;
+
+    public CachingMessageSource(MessageSource delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * @param delegate - Message source resolving the patterns
+     * @param cacheDuration - How long templates are kept, null or negative to keep them until evicted by size
+     */
+    public CachingMessageSource(MessageSource delegate, Duration cacheDuration) {
+        this.delegate = delegate;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE);
+        if (cacheDuration != null && !cacheDuration.isNegative()) {
+            builder.expireAfterWrite(cacheDuration);
+        }
+        this.templates = builder.build();
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        Template template = template(code, locale);
+        if (template == null || !template.canFormat(args)) {
+            return delegate.getMessage(code, args, defaultMessage, locale);
+        }
+        return template.format(args);
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        Template template = template(code, locale);
+        if (template == null || !template.canFormat(args)) {
+            return delegate.getMessage(code, args, locale);
+        }
+        return template.format(args);
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        return delegate.getMessage(resolvable, locale);
+    }
+
+    private Template template(String code, Locale locale) {
+        if (code == null) {
+            return null;
+        }
+        Key key = new Key(code, locale);
+        Optional<Template> template = templates.getIfPresent(key);
+        if (template == null) {
+            String pattern = delegate.getMessage(code, null, null, locale);
+            if (pattern == null) {
+                // Not cached, the code may be added with a reload
+                return null;
+            }
+            template = Optional.ofNullable(Template.parse(pattern));
+            templates.put(key, template);
+        }
+        return template.orElse(null);
+    }
+
+    private record Key(String code, Locale locale) {
+    }
+
+    /**
+     * Literal text with the argument index of each placeholder after it, -1 for none
+     */
+    private record Template(String[] literals, int[] arguments) {
+
+        static Template parse(String pattern) {
+            if (pattern.indexOf('\'') >= 0) {
+                return null;
+            }
+            List<String> literals = new ArrayList<>();
+            List<Integer> arguments = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = pattern.indexOf('{', start)) >= 0) {
+                int close = pattern.indexOf('}', open);
+                if (close < 0) {
+                    return null;
+                }
+                String index = pattern.substring(open + 1, close);
+                if (index.isEmpty() || index.length() > 2 || !index.chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                literals.add(pattern.substring(start, open));
+                arguments.add(Integer.parseInt(index));
+                start = close + 1;
+            }
+            if (pattern.indexOf('}', start) >= 0) {
+                return null;
+            }
+            literals.add(pattern.substring(start));
+            arguments.add(-1);
+            return new Template(literals.toArray(String[]::new), arguments.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * Only strings and record ids are formatted here, other numbers and objects need MessageFormat
+         */
+        boolean canFormat(Object[] args) {
+            if (args != null) {
+                for (Object arg : args) {
+                    if (arg != null && !(arg instanceof String) && !(arg instanceof Long) && !(arg instanceof Integer)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        String format(Object[] args) {
+            if (literals.length == 1) {
+                return literals[0];
+            }
+            StringBuilder message = new StringBuilder();
+            for (int i = 0; i < literals.length; i++) {
+                message.append(literals[i]);
+                int argument = arguments[i];
+                if (argument < 0) {
+                    continue;
+                }
+                if (args == null || argument >= args.length) {
+                    message.append('{').append(argument).append('}');
+                } else {
+                    message.append(args[argument]);
+                }
+            }
+            return message.toString();
+        }
+    }
+}
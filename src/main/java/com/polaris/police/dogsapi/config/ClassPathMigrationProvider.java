@@ -0,0 +1,114 @@
+package com.polaris.police.dogsapi.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Migration scripts listed from the class path with Spring's resource resolver, through Flyway's public
+ * {@link ResourceProvider} interface. Only class path locations are listed. Paths are relative to their location
+ * like in Flyway's own scanner, so the recorded script names are the same.
+ */
+final class ClassPathMigrationProvider implements ResourceProvider {
+
+    private final List<LoadableResource> resources = new ArrayList<>();
+
+    ClassPathMigrationProvider(Location[] locations, ClassLoader classLoader, Charset encoding) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        for (Location location : locations) {
+            if (!location.isClassPath()) {
+                continue;
+            }
+            String root = location.getRootPath() + "/";
+            try {
+                for (Resource resource : resolver.getResources("classpath*:" + root + "**/*")) {
+                    String url = resource.getURL().toString();
+                    int start = url.lastIndexOf(root);
+                    if (resource.isReadable() && start >= 0 && !url.endsWith("/")) {
+                        String absolutePath = url.substring(start);
+                        resources.add(new ClassPathMigration(resource, absolutePath,
+                                location.getPathRelativeToThis(absolutePath), encoding));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to list migrations in " + location, e);
+            }
+        }
+    }
+
+    @Override
+    public LoadableResource getResource(String name) {
+        return resources.stream()
+                .filter(resource -> resource.getRelativePath().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+        return resources.stream()
+                .filter(resource -> resource.getFilename().startsWith(prefix))
+                .filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+                .toList();
+    }
+
+    private static final class ClassPathMigration extends LoadableResource {
+
+        private final Resource resource;
+        private final String absolutePath;
+        private final String relativePath;
+        private final Charset encoding;
+
+        private ClassPathMigration(Resource resource, String absolutePath, String relativePath, Charset encoding) {
+            this.resource = resource;
+            this.absolutePath = absolutePath;
+            this.relativePath = relativePath;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public Reader read() {
+            try {
+                return new InputStreamReader(resource.getInputStream(), encoding);
+            } catch (IOException e) {
+                throw new FlywayException("Unable to read migration " + absolutePath, e);
+            }
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return absolutePath;
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            try {
+                return resource.getURL().getPath();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String getFilename() {
+            return absolutePath.substring(absolutePath.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getRelativePath() {
+            return relativePath;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.time.Duration;
+
+/**
+ * Sizing of the dog detail cache.
+ *
+ * @param maximumSize - Maximum number of dog records kept in memory
+ * @param expireAfterWrite - Time after which a cached record is reloaded from the database
+ */
+@ConfigurationProperties(prefix = "dogsapi.cache.dogs")
+public record DogCacheProperties(
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite
+) {
+}
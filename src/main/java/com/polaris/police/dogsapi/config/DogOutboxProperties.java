@@ -0,0 +1,20 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.time.Duration;
+
+/**
+ * Delivery of the dog change outbox.
+ *
+ * @param dispatcherEnabled - Poll the outbox in the background. Changes are still recorded when disabled.
+ * @param pollInterval - Delay between the end of one poll and the start of the next
+ * @param batchSize - Maximum number of changes handed to the sinks at once
+ */
+@ConfigurationProperties(prefix = "dogsapi.outbox")
+public record DogOutboxProperties(
+        @DefaultValue("true") boolean dispatcherEnabled,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("100") int batchSize
+) {
+}
@@ -0,0 +1,16 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Results of the dog list and free text search.
+ *
+ * @param emptyResultNotFound - Answer a search without results with 404. When false, an empty list is returned
+ *                              with 200 and no exception is raised.
+ */
+@ConfigurationProperties(prefix = "dogsapi.search")
+public record DogSearchProperties(
+        @DefaultValue("true") boolean emptyResultNotFound
+) {
+}
@@ -0,0 +1,16 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Validation of request bodies.
+ *
+ * @param precompiled - Check dog records against a plan compiled at startup and only run Bean Validation for
+ *                      records that fail it. Error responses are the same in both modes.
+ */
+@ConfigurationProperties(prefix = "dogsapi.validation")
+public record DogValidationProperties(
+        @DefaultValue("true") boolean precompiled
+) {
+}
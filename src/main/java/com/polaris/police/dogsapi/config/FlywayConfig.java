@@ -0,0 +1,27 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway settings for the AOT-processed application (see the startup profile).
+ * <p>
+ * With generated artifacts Spring Boot replaces the migration scanner by one written for native images and Flyway 10,
+ * which fails on the Flyway 9 used here. Migrations are listed from the class path by a
+ * {@link ClassPathMigrationProvider} instead, which works on the JVM and only uses Flyway's public API.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer classPathResourceProviderCustomizer() {
+        return configuration -> {
+            if (AotDetector.useGeneratedArtifacts() && configuration.getResourceProvider() == null) {
+                configuration.resourceProvider(new ClassPathMigrationProvider(configuration.getLocations(),
+                        configuration.getClassLoader(), configuration.getEncoding()));
+            }
+        };
+    }
+}
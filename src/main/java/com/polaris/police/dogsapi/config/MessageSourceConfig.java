@@ -0,0 +1,40 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+/**
+ * Message source configured from spring.messages like the auto-configured one, with resolved patterns cached by
+ * {@link CachingMessageSource}.
+ */
+@Configuration
+public class MessageSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public MessageSource messageSource(MessageSourceProperties properties) {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames(properties.getBasename().toArray(String[]::new));
+        if (properties.getEncoding() != null) {
+            messageSource.setDefaultEncoding(properties.getEncoding().name());
+        }
+        if (properties.getCacheDuration() != null) {
+            messageSource.setCacheMillis(properties.getCacheDuration().toMillis());
+        }
+        messageSource.setFallbackToSystemLocale(properties.isFallbackToSystemLocale());
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+        // Cached templates are built from unformatted patterns and expire when the bundles are reloaded
+        return properties.isAlwaysUseMessageFormat()
+                ? messageSource : new CachingMessageSource(messageSource, properties.getCacheDuration());
+    }
+}
@@ -0,0 +1,48 @@
+package com.polaris.police.dogsapi.config;
+
+import com.polaris.police.dogsapi.service.outbox.DogOutboxDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Background delivery of the dog change outbox. The dispatcher runs as a fixed delay task, which never overlaps
+ * itself, and drains the outbox batch by batch on every run.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DogOutboxProperties.class)
+@Slf4j
+public class OutboxConfig implements SchedulingConfigurer {
+
+    private final DogOutboxDispatcher dogOutboxDispatcher;
+    private final DogOutboxProperties dogOutboxProperties;
+
+    public OutboxConfig(DogOutboxDispatcher dogOutboxDispatcher, DogOutboxProperties dogOutboxProperties) {
+        this.dogOutboxDispatcher = dogOutboxDispatcher;
+        this.dogOutboxProperties = dogOutboxProperties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!dogOutboxProperties.dispatcherEnabled()) {
+            log.info("Dog outbox dispatcher is disabled");
+            return;
+        }
+        taskRegistrar.addFixedDelayTask(this::drain, dogOutboxProperties.pollInterval());
+    }
+
+    private void drain() {
+        try {
+            int delivered;
+            do {
+                delivered = dogOutboxDispatcher.dispatch();
+            } while (delivered >= dogOutboxProperties.batchSize());
+        } catch (RuntimeException e) {
+            log.warn("Dog outbox delivery failed, retrying in {}", dogOutboxProperties.pollInterval(), e);
+        }
+    }
+}
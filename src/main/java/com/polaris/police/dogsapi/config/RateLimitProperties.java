@@ -0,0 +1,32 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.util.Set;
+
+/**
+ * Per-client request budgets of the dog API. Each client has one token bucket for reads and one for writes.
+ * A bucket holds up to its capacity, so a client can burst that many requests, and refills at a steady rate.
+ *
+ * @param enabled - Throttle clients that exceed their budget
+ * @param apiKeyHeader - Header identifying the client
+ * @param apiKeys - API keys issued to clients. Requests are counted against their key only when it is one of these,
+ *                  other requests are counted against their remote address, so made-up keys do not get new budgets.
+ * @param maximumClients - Maximum number of clients tracked per budget. The least recently seen are dropped first.
+ * @param searchCapacity - Burst of GET requests (list, search, facets, export and single records)
+ * @param searchRefillPerSecond - Sustained GET requests per second
+ * @param writeCapacity - Burst of POST, PUT, PATCH and DELETE requests
+ * @param writeRefillPerSecond - Sustained write requests per second
+ */
+@ConfigurationProperties(prefix = "dogsapi.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        @DefaultValue Set<String> apiKeys,
+        @DefaultValue("10000") long maximumClients,
+        @DefaultValue("100") int searchCapacity,
+        @DefaultValue("50") double searchRefillPerSecond,
+        @DefaultValue("20") int writeCapacity,
+        @DefaultValue("10") double writeRefillPerSecond
+) {
+}
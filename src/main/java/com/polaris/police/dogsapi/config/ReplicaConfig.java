@@ -0,0 +1,131 @@
+package com.polaris.police.dogsapi.config;
+
+import com.polaris.police.dogsapi.controller.filter.ReadYourWritesFilter;
+import com.polaris.police.dogsapi.service.impl.DogListGeneration;
+import com.polaris.police.dogsapi.service.outbox.ReplicaDogChangeSink;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+
+/**
+ * Read replica routing, enabled with dogsapi.replica.enabled. Replaces the auto-configured data source with a
+ * primary and a replica pool behind {@link ReplicaRoutingDataSource}.
+ * <p>
+ * A managed replica is migrated with the same Flyway scripts as the primary and receives every committed dog change
+ * from the outbox, which lets the routing run locally on two in-memory H2 databases.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "dogsapi.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+@Slf4j
+public class ReplicaConfig {
+
+    // After rate limiting, so throttled reads are not counted as pinned
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 20;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("dogsapi.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.url())
+                .username(replicaProperties.username())
+                .password(replicaProperties.password())
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaProperties replicaProperties, FlywayProperties flywayProperties) {
+        if (replicaProperties.managed()) {
+            migrate(replicaDataSource, flywayProperties);
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+        routingDataSource.initialize();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "dogsapi.replica", name = "managed", havingValue = "true", matchIfMissing = true)
+    public ReplicaDogChangeSink replicaDogChangeSink(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                    CacheManager cacheManager,
+                                                    EntityManagerFactory entityManagerFactory,
+                                                    DogListGeneration dogListGeneration) {
+        return new ReplicaDogChangeSink(new NamedParameterJdbcTemplate(replicaDataSource), cacheManager,
+                entityManagerFactory.unwrap(SessionFactory.class), dogListGeneration);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replicaProperties,
+                                                                           RateLimitProperties rateLimitProperties,
+                                                                           MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(rateLimitProperties.apiKeyHeader(), rateLimitProperties.apiKeys(),
+                        replicaProperties.readYourWritesWindow(), replicaProperties.maximumClients(), meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * Carries the primary pin of a request over to the task executor, where exports are streamed
+     */
+    @Bean
+    public TaskDecorator replicaRoutingTaskDecorator() {
+        return runnable -> {
+            boolean pinned = ReplicaRoutingDataSource.isPinnedToPrimary();
+            return () -> {
+                ReplicaRoutingDataSource.setPinnedToPrimary(pinned);
+                try {
+                    runnable.run();
+                } finally {
+                    ReplicaRoutingDataSource.setPinnedToPrimary(false);
+                }
+            };
+        };
+    }
+
+    private static void migrate(DataSource replicaDataSource, FlywayProperties flywayProperties) {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations(flywayProperties.getLocations().toArray(String[]::new))
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .load()
+                .migrate();
+        log.info("Migrated the managed replica");
+    }
+}
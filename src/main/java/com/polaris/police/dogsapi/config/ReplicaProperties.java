@@ -0,0 +1,31 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.time.Duration;
+
+/**
+ * Read replica of the dog database. Read-only transactions use the replica and all other work uses the primary
+ * configured under spring.datasource. Pool settings of the replica are bound from dogsapi.replica.hikari.
+ *
+ * @param enabled - Route read-only transactions to the replica
+ * @param url - JDBC URL of the replica
+ * @param username - Login user of the replica
+ * @param password - Login password of the replica
+ * @param managed - The application creates the replica schema and applies committed dog changes to it from the
+ *                outbox. Turn off when the database replicates itself.
+ * @param readYourWritesWindow - How long after a write the reads of the same client stay on the primary. Should
+ *                             cover the replication lag.
+ * @param maximumClients - Maximum number of recent writers tracked. The oldest are dropped first.
+ */
+@ConfigurationProperties(prefix = "dogsapi.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("jdbc:h2:mem:dogsdb_replica") String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("true") boolean managed,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("10000") long maximumClients
+) {
+}
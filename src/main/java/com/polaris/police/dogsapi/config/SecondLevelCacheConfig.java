@@ -0,0 +1,111 @@
+package com.polaris.police.dogsapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.entity.Supplier;
+import com.polaris.police.dogsapi.model.db.repository.DogRepositoryCustom;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Hibernate second-level and query cache regions, held in Caffeine through JCache. Every region is created here
+ * with its own size and expiry, and Hibernate is set to fail on any other region so none is created unbounded.
+ * <p>
+ * Dog and supplier entities are cached, so loading a dog by id, and its supplier through the association, does not
+ * reach the database while they are cached. Dog list queries are kept in the query cache region, which Hibernate
+ * invalidates on every change of the tables they read. Changes made outside Hibernate are not seen by the cache.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    private static final List<String> ENTITY_REGIONS = List.of(Dog.CACHE_REGION, Supplier.CACHE_REGION);
+    private static final List<String> QUERY_REGIONS = List.of(DogRepositoryCustom.LIST_CACHE_REGION);
+    // Created as Hibernate needs them, but no query uses the default results region
+    private static final long DEFAULT_QUERY_RESULTS_MAXIMUM_SIZE = 100;
+
+    /**
+     * One cache manager per application context, so test contexts in the same JVM do not share regions
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("dogsapi-second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(Dog.CACHE_REGION, region(properties.dog()));
+        cacheManager.createCache(Supplier.CACHE_REGION, region(properties.supplier()));
+        cacheManager.createCache(DogRepositoryCustom.LIST_CACHE_REGION, region(properties.dogList()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(new SecondLevelCacheProperties.Region(DEFAULT_QUERY_RESULTS_MAXIMUM_SIZE, null)));
+        // One entry per table. Must never lose an entry, or stale query results would be taken as current.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Hit ratio of every region since startup, published as dogs.cache.region.hit.ratio. The underlying hit and miss
+     * counts are published by Hibernate as hibernate.second.level.cache.requests and hibernate.cache.query.requests.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            ENTITY_REGIONS.forEach(region -> registerHitRatio(registry, statistics, region,
+                    s -> s.getDomainDataRegionStatistics(region)));
+            QUERY_REGIONS.forEach(region -> registerHitRatio(registry, statistics, region,
+                    s -> s.getQueryRegionStatistics(region)));
+        };
+    }
+
+    private static void registerHitRatio(MeterRegistry registry, Statistics statistics,
+                                         String region, Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        Gauge.builder("dogs.cache.region.hit.ratio", statistics, s -> hitRatio(regionStatistics.apply(s)))
+                .description("Share of second-level and query cache lookups answered by the region")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return Double.NaN;
+        }
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) statistics.getHitCount() / lookups;
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        if (region.expireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,31 @@
+package com.polaris.police.dogsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.time.Duration;
+
+/**
+ * Sizing of the Hibernate second-level and query cache regions.
+ *
+ * @param dog - Dog entities, including the id of their supplier
+ * @param supplier - Supplier entities
+ * @param dogList - Results of dog list queries
+ */
+@ConfigurationProperties(prefix = "dogsapi.cache.hibernate")
+public record SecondLevelCacheProperties(
+        @DefaultValue Region dog,
+        @DefaultValue Region supplier,
+        @DefaultValue Region dogList
+) {
+
+    /**
+     * @param maximumSize - Maximum number of entries. The least valuable are evicted first.
+     * @param expireAfterWrite - Time after which an entry is reloaded from the database, or empty to keep entries
+     *                         until they are evicted or invalidated by a change
+     */
+    public record Region(
+            @DefaultValue("1000") long maximumSize,
+            Duration expireAfterWrite
+    ) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.polaris.police.dogsapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Dogs cache that never replaces a record by an older version of it.
+ * <p>
+ * A read that missed the cache can finish after a concurrent write has put the new version, and would then store the
+ * version it read for the rest of the entry's lifetime. Its ETag would no longer match the database, so conditional
+ * requests would fail until the entry expires. Records are therefore merged into the cache, keeping the higher
+ * version.
+ */
+final class VersionedDogCache extends CaffeineCache {
+
+    VersionedDogCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value instanceof DogDTO dog && dog.getVersion() != null) {
+            getNativeCache().asMap().merge(key, dog, (cached, put) -> isNewer(cached, dog) ? cached : put);
+            return;
+        }
+        super.put(key, value);
+    }
+
+    private static boolean isNewer(Object cached, DogDTO dog) {
+        return cached instanceof DogDTO cachedDog && cachedDog.getVersion() != null
+                && cachedDog.getVersion() > dog.getVersion();
+    }
+}
@@ -0,0 +1,59 @@
+package com.polaris.police.dogsapi.config;
+
+import com.polaris.police.dogsapi.controller.converter.DogProtobufHttpMessageConverter;
+import com.polaris.police.dogsapi.controller.filter.BufferedResponseFilter;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.request.validator.PrecompiledValidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.util.List;
+
+/**
+ * Response formats of the API. JSON is the default, CBOR and Smile are added by Spring MVC because the Jackson
+ * data formats are on the classpath, and protobuf is added here. Responses are buffered so that the compression
+ * threshold applies to all of them (see {@link BufferedResponseFilter}).
+ * <p>
+ * Request bodies are validated by a {@link PrecompiledValidator} unless dogsapi.validation.precompiled is false.
+ */
+@Configuration
+@EnableConfigurationProperties(DogValidationProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    // Before the rate limit filter, so its 429 responses are buffered too
+    private static final int BUFFERED_RESPONSE_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
+
+    private final DogValidationProperties dogValidationProperties;
+    private final ObjectProvider<jakarta.validation.Validator> validator;
+
+    public WebConfig(DogValidationProperties dogValidationProperties, ObjectProvider<jakarta.validation.Validator> validator) {
+        this.dogValidationProperties = dogValidationProperties;
+        this.validator = validator;
+    }
+
+    @Bean
+    public FilterRegistrationBean<BufferedResponseFilter> bufferedResponseFilter() {
+        FilterRegistrationBean<BufferedResponseFilter> registration = new FilterRegistrationBean<>(new BufferedResponseFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(BUFFERED_RESPONSE_FILTER_ORDER);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Last, so that a request without a specific Accept header still gets JSON
+        converters.add(new DogProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public Validator getValidator() {
+        // Null keeps the default validator
+        return dogValidationProperties.precompiled() ? new PrecompiledValidator(validator.getObject(), DogDTO.class) : null;
+    }
+}
@@ -1,30 +1,66 @@
 package com.polaris.police.dogsapi.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.polaris.police.dogsapi.controller.export.CsvDogExportWriter;
+import com.polaris.police.dogsapi.controller.export.DogExportWriter;
+import com.polaris.police.dogsapi.controller.export.NdjsonDogExportWriter;
+import com.polaris.police.dogsapi.exception.PreconditionFailedException;
+import com.polaris.police.dogsapi.exception.RequestValidationException;
+import com.polaris.police.dogsapi.model.enums.ExportFormat;
 import com.polaris.police.dogsapi.model.response.MessageDTO;
 import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.request.PageCursor;
 import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.model.response.DogSlice;
+import com.polaris.police.dogsapi.model.response.DogFacets;
 import com.polaris.police.dogsapi.service.DogService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -32,10 +68,21 @@ import java.util.List;
 @Tag(name = "Dogs API", description = "Endpoints for managing police dog records")
 public class DogController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final DogService dogService;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final Validator validator;
 
-    public DogController(DogService dogService) {
+    public DogController(DogService dogService, ObjectMapper objectMapper, MessageSource messageSource,
+                         @Qualifier("mvcValidator") Validator validator) {
         this.dogService = dogService;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.validator = validator;
     }
 
     @Operation(summary = "Register a new dog")
@@ -54,6 +101,33 @@ public class DogController {
     @PostMapping
     public ResponseEntity<DogDTO> create(@Valid @RequestBody DogDTO dogDTO) {
         DogDTO saved = dogService.createDog(dogDTO);
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), saved);
+    }
+
+
+    @Operation(summary = "Register a batch of dogs")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Dogs successfully registered",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = DogDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input or validation error",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Supplier not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<DogDTO>> createBatch(
+            @Valid @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<DogDTO> dogDTOList) {
+        List<DogDTO> saved = dogService.createDogs(dogDTOList);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
@@ -61,11 +135,18 @@ public class DogController {
     @Operation(summary = "Delete dog record by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Dog deleted successfully", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Dog not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Dog not found", content = @Content),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Dog was modified since the version in If-Match",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        dogService.deleteDog(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        dogService.deleteDog(id, parseIfMatch(id, ifMatch));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
@@ -81,22 +162,70 @@ public class DogController {
                     responseCode = "404",
                     description = "Dog not found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Dog was modified since the version in If-Match",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
             )
     })
     @PutMapping("/{id}")
-    public ResponseEntity<DogDTO> updateDog(@PathVariable Long id, @Valid @RequestBody DogDTO dogDTO) {
-        DogDTO updatedDog = dogService.updateDog(id, dogDTO);
-        return ResponseEntity.status(HttpStatus.OK).body(updatedDog);
+    public ResponseEntity<DogDTO> updateDog(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody DogDTO dogDTO) {
+        DogDTO updatedDog = dogService.updateDog(id, dogDTO, parseIfMatch(id, ifMatch));
+        return withETag(ResponseEntity.status(HttpStatus.OK), updatedDog);
     }
 
 
-    @Operation(summary = "Get dog record by ID")
+    @Operation(summary = "Partially update existing dog record",
+            description = "JSON Merge Patch (RFC 7396): fields in the body replace the stored values, null clears a value "
+                    + "and absent fields are left unchanged. Only the changed columns are written.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Dog record updated successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = DogDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch or the patched record fails validation",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Dog not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Dog was modified since the version in If-Match",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<DogDTO> patchDog(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody ObjectNode patch,
+            HttpServletRequest request) {
+        DogDTO patchedDog = dogService.patchDog(id, current -> mergePatch(current, patch, request), parseIfMatch(id, ifMatch));
+        return withETag(ResponseEntity.status(HttpStatus.OK), patchedDog);
+    }
+
+
+    @Operation(summary = "Get dog record by ID",
+            description = "The response carries the record version as a strong ETag. Send it back in If-None-Match "
+                    + "to revalidate a cached copy, or in If-Match to update or delete only that version.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Dog record retrieved successfully",
+                    headers = @Header(name = HttpHeaders.ETAG, description = "Record version"),
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = DogDTO.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Dog record matches If-None-Match", content = @Content),
             @ApiResponse(
                     responseCode = "404",
                     description = "Dog not found",
@@ -104,17 +233,29 @@ public class DogController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<DogDTO> getDog(@PathVariable Long id) {
-        DogDTO updatedDog = dogService.getDog(id);
-        return ResponseEntity.status(HttpStatus.OK).body(updatedDog);
+    public ResponseEntity<DogDTO> getDog(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Revalidation reads only the version column, the record is not loaded or serialized
+            ETag current = toETag(dogService.getDogVersion(id));
+            if (ETag.parse(ifNoneMatch).stream().anyMatch(eTag -> eTag.isWildcard() || eTag.compare(current, false))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current.formattedTag()).build();
+            }
+        }
+        DogDTO dog = dogService.getDog(id);
+        return withETag(ResponseEntity.status(HttpStatus.OK), dog);
     }
 
 
-    @Operation(summary = "Get list of dogs matching search criteria")
+    @Operation(summary = "Get list of dogs matching search criteria",
+            description = "Pass the \"after\" parameter to use keyset pagination instead of page numbers. "
+                    + "Send an empty value for the first page, then the X-Next-Cursor header value of the previous response.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "List of dogs retrieved successfully",
+                    headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page (keyset pagination only)"),
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = DogDTO.class)))
             ),
@@ -130,10 +271,181 @@ public class DogController {
             @RequestParam(value = "breed", required = false) String breed,
             @RequestParam(value = "supplier", required = false) String supplier,
             @RequestParam(value = "pageNum", defaultValue = "0") @Min(0) int pageNum,
-            @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) @Max(100) int pageSize
+            @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) @Max(100) int pageSize,
+            @Parameter(description = "Keyset pagination cursor")
+            @RequestParam(value = "after", required = false) String after
     ) {
         SearchParam searchParam = new SearchParam(name, breed, supplier, pageNum, pageSize);
-        List<DogDTO> dogDTOList = dogService.getDogList(searchParam);
+        if (after == null) {
+            List<DogDTO> dogDTOList = dogService.getDogList(searchParam);
+            return ResponseEntity.status(HttpStatus.OK).body(dogDTOList);
+        }
+
+        Long afterId = StringUtils.isBlank(after) ? null : PageCursor.decode(after);
+        DogSlice dogSlice = dogService.getDogSlice(searchParam, afterId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (dogSlice.hasNext()) {
+            List<DogDTO> content = dogSlice.content();
+            response.header(NEXT_CURSOR_HEADER, PageCursor.encode(content.get(content.size() - 1).getId()));
+        }
+        return response.body(dogSlice.content());
+    }
+
+
+    @Operation(summary = "Free text search",
+            description = "Matches words of name, breed and kennelling characteristic, including prefixes and misspellings. "
+                    + "Results are ranked, best match first.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching dogs",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = DogDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid query parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No dog matches, unless dogsapi.search.empty-result-not-found is false",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<DogDTO>> search(
+            @RequestParam(value = "q", defaultValue = "") @NotBlank @Size(max = 200) String q,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) int limit
+    ) {
+        List<DogDTO> dogDTOList = dogService.searchDogs(q, limit);
         return ResponseEntity.status(HttpStatus.OK).body(dogDTOList);
     }
+
+
+    @Operation(summary = "Count dogs matching search criteria by facet",
+            description = "Returns the number of dogs per current status, breed, gender and supplier, largest count first. "
+                    + "Accepts the same filters as the dog list.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Facet counts, empty when no dog matches",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = DogFacets.class))
+            )
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<DogFacets> getDogFacets(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "breed", required = false) String breed,
+            @RequestParam(value = "supplier", required = false) String supplier
+    ) {
+        SearchParam searchParam = SearchParam.builder().name(name).breed(breed).supplier(supplier).build();
+        DogFacets dogFacets = dogService.getDogFacets(searchParam);
+        return ResponseEntity.status(HttpStatus.OK).body(dogFacets);
+    }
+
+
+    @Operation(summary = "Export all dogs matching search criteria",
+            description = "Streams every matching record in id order as newline delimited JSON or CSV. "
+                    + "Deleted records are not exported.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export stream",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid query parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageDTO.class))
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "breed", required = false) String breed,
+            @RequestParam(value = "supplier", required = false) String supplier,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        SearchParam searchParam = SearchParam.builder().name(name).breed(breed).supplier(supplier).build();
+        StreamingResponseBody body = out -> {
+            DogExportWriter writer = createExportWriter(format, out);
+            dogService.exportDogs(searchParam, dogDTO -> {
+                try {
+                    writer.write(dogDTO);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("dogs." + format.getFileExtension())
+                .build();
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    /**
+     * Apply a merge patch to the current record and validate the result like a full update. Read-only properties in
+     * the patch are ignored.
+     */
+    private DogDTO mergePatch(DogDTO current, ObjectNode patch, HttpServletRequest request) {
+        DogDTO patched;
+        try {
+            patched = objectMapper.readerForUpdating(current).readValue(patch);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, new ServletServerHttpRequest(request));
+        }
+
+        Errors errors = new BeanPropertyBindingResult(patched, "dogDTO");
+        validator.validate(patched, errors);
+        if (errors.hasErrors()) {
+            throw new RequestValidationException(errors);
+        }
+        return patched;
+    }
+
+    private static ETag toETag(long version) {
+        return new ETag(Long.toString(version), false);
+    }
+
+    private static ResponseEntity<DogDTO> withETag(ResponseEntity.BodyBuilder response, DogDTO dog) {
+        if (dog.getVersion() != null) {
+            response.eTag(toETag(dog.getVersion()).formattedTag());
+        }
+        return response.body(dog);
+    }
+
+    /**
+     * Version expected by an If-Match header. Null when the header is absent or "*", so the change is unconditional.
+     * Only a single strong ETag issued by this API can match; anything else fails the precondition.
+     */
+    private Long parseIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> eTags = ETag.parse(ifMatch);
+        if (eTags.size() == 1 && eTags.get(0).isWildcard()) {
+            return null;
+        }
+        if (eTags.size() == 1 && !eTags.get(0).weak() && eTags.get(0).tag().matches("\\d{1,18}")) {
+            return Long.valueOf(eTags.get(0).tag());
+        }
+        throw new PreconditionFailedException(messageSource.getMessage("record.modified",
+                new Object[]{id}, LocaleContextHolder.getLocale()));
+    }
+
+    private DogExportWriter createExportWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonDogExportWriter(objectMapper, out);
+            case CSV -> new CsvDogExportWriter(out);
+        };
+    }
 }
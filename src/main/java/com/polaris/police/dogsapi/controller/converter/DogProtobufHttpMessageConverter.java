@@ -0,0 +1,179 @@
+package com.polaris.police.dogsapi.controller.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes a dog record as the Dog message, and a list of dog records as the DogList message, of
+ * src/main/proto/dogs.proto. Fields are encoded directly from the DTO, so no generated classes or intermediate
+ * objects are needed. Null fields are left out. Response bodies only, requests are always JSON.
+ * <p>
+ * The Content-Length is computed up front, so the container can leave small responses uncompressed.
+ */
+public class DogProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(PROTOBUF_VALUE);
+
+    private static final int DOG_LIST_DOGS = 1;
+
+    public DogProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DogDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type == null ? supports(clazz) : isDogOrDogList(type)) && canWrite(mediaType);
+    }
+
+    /**
+     * Lists are accepted here and their element type is checked by {@link #canWrite(Type, Class, MediaType)}
+     */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Long getContentLength(Object object, MediaType contentType) {
+        if (object instanceof DogDTO dog) {
+            return (long) dogSize(dog);
+        }
+        long length = 0;
+        for (Object element : (List<?>) object) {
+            int size = dogSize((DogDTO) element);
+            length += CodedOutputStream.computeTagSize(DOG_LIST_DOGS) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        }
+        return length;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (object instanceof DogDTO dog) {
+            writeDog(output, dog);
+        } else {
+            for (Object element : (List<?>) object) {
+                DogDTO dog = (DogDTO) element;
+                output.writeTag(DOG_LIST_DOGS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(dogSize(dog));
+                writeDog(output, dog);
+            }
+        }
+        output.flush();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    private static boolean isDogOrDogList(Type type) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        Class<?> dogType = List.class.isAssignableFrom(resolvableType.toClass())
+                ? resolvableType.asCollection().resolveGeneric(0)
+                : resolvableType.resolve();
+        return dogType != null && DogDTO.class.isAssignableFrom(dogType);
+    }
+
+    // Field numbers and order follow the Dog message. dogSize must cover exactly what writeDog writes.
+
+    private static void writeDog(CodedOutputStream output, DogDTO dog) throws IOException {
+        if (dog.getId() != null) {
+            output.writeInt64(1, dog.getId());
+        }
+        writeString(output, 2, dog.getName());
+        writeString(output, 3, dog.getBreed());
+        if (dog.getSupplierId() != null) {
+            output.writeInt32(4, dog.getSupplierId());
+        }
+        writeString(output, 5, dog.getSupplierName());
+        writeString(output, 6, dog.getBadgeId());
+        writeDate(output, 7, dog.getBirthDate());
+        writeDate(output, 8, dog.getDateAcquired());
+        writeString(output, 9, dog.getGender() == null ? null : dog.getGender().name());
+        writeString(output, 10, dog.getCurrentStatus() == null ? null : dog.getCurrentStatus().name());
+        writeString(output, 11, dog.getLeavingReason() == null ? null : dog.getLeavingReason().name());
+        writeDate(output, 12, dog.getLeavingDate());
+        writeString(output, 13, dog.getKennellingCharacteristic());
+        if (dog.getVersion() != null) {
+            output.writeInt64(14, dog.getVersion());
+        }
+    }
+
+    private static int dogSize(DogDTO dog) {
+        int size = 0;
+        if (dog.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, dog.getId());
+        }
+        size += stringSize(2, dog.getName());
+        size += stringSize(3, dog.getBreed());
+        if (dog.getSupplierId() != null) {
+            size += CodedOutputStream.computeInt32Size(4, dog.getSupplierId());
+        }
+        size += stringSize(5, dog.getSupplierName());
+        size += stringSize(6, dog.getBadgeId());
+        size += dateSize(7, dog.getBirthDate());
+        size += dateSize(8, dog.getDateAcquired());
+        size += stringSize(9, dog.getGender() == null ? null : dog.getGender().name());
+        size += stringSize(10, dog.getCurrentStatus() == null ? null : dog.getCurrentStatus().name());
+        size += stringSize(11, dog.getLeavingReason() == null ? null : dog.getLeavingReason().name());
+        size += dateSize(12, dog.getLeavingDate());
+        size += stringSize(13, dog.getKennellingCharacteristic());
+        if (dog.getVersion() != null) {
+            size += CodedOutputStream.computeInt64Size(14, dog.getVersion());
+        }
+        return size;
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    private static void writeDate(CodedOutputStream output, int field, LocalDate value) throws IOException {
+        if (value != null) {
+            output.writeInt32(field, (int) value.toEpochDay());
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static int dateSize(int field, LocalDate value) {
+        return value == null ? 0 : CodedOutputStream.computeInt32Size(field, (int) value.toEpochDay());
+    }
+}
@@ -0,0 +1,65 @@
+package com.polaris.police.dogsapi.controller.export;
+
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row. Values containing a separator, quote or line break are quoted.
+ */
+public class CsvDogExportWriter implements DogExportWriter {
+
+    static final String HEADER = "id,name,breed,supplierId,supplierName,badgeId,gender,birthDate,dateAcquired,"
+            + "currentStatus,leavingDate,leavingReason,kennellingCharacteristic";
+
+    private final Writer writer;
+
+    public CsvDogExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(DogDTO dogDTO) throws IOException {
+        writeValue(dogDTO.getId());
+        writeValue(dogDTO.getName());
+        writeValue(dogDTO.getBreed());
+        writeValue(dogDTO.getSupplierId());
+        writeValue(dogDTO.getSupplierName());
+        writeValue(dogDTO.getBadgeId());
+        writeValue(dogDTO.getGender());
+        writeValue(dogDTO.getBirthDate());
+        writeValue(dogDTO.getDateAcquired());
+        writeValue(dogDTO.getCurrentStatus());
+        writeValue(dogDTO.getLeavingDate());
+        writeValue(dogDTO.getLeavingReason());
+        writer.write(escape(dogDTO.getKennellingCharacteristic()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        writer.write(escape(value));
+        writer.write(',');
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,17 @@
+package com.polaris.police.dogsapi.controller.export;
+
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import java.io.IOException;
+
+/**
+ * Writes exported dog records to the response body one record at a time.
+ */
+public interface DogExportWriter {
+
+    void write(DogDTO dogDTO) throws IOException;
+
+    /**
+     * Flush buffered output. The underlying stream is left open, it belongs to the servlet container.
+     */
+    void flush() throws IOException;
+}
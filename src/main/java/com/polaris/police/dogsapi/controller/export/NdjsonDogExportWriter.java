@@ -0,0 +1,37 @@
+package com.polaris.police.dogsapi.controller.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline delimited JSON, one dog object per line. Records are not flushed one by one, the output is flushed when
+ * the export ends.
+ */
+public class NdjsonDogExportWriter implements DogExportWriter {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    public NdjsonDogExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(DogDTO dogDTO) throws IOException {
+        objectWriter.writeValue(generator, dogDTO);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,87 @@
+package com.polaris.police.dogsapi.controller.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+/**
+ * Lets the container apply the compression threshold to every response. Message converters flush the response
+ * after writing the body, which commits it without a Content-Length, and the container then compresses it whatever
+ * its size. Here flushes are ignored, so a body that fits in the container's response buffer is still buffered when
+ * the response completes and is sent with its length. Larger bodies are written as the buffer fills, as before.
+ */
+public class BufferedResponseFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new BufferedResponse(response));
+    }
+
+    private static final class BufferedResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+
+        private BufferedResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new UnflushedOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() {
+            // Committed by the container when the buffer is full or the response completes
+        }
+    }
+
+    private static final class UnflushedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private UnflushedOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            // See BufferedResponse.flushBuffer
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.polaris.police.dogsapi.controller.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import java.util.Set;
+
+/**
+ * How the API filters tell clients and kinds of request apart.
+ */
+final class ClientRequests {
+
+    private ClientRequests() {
+    }
+
+    /**
+     * @return true for POST, PUT, PATCH and DELETE
+     */
+    static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH
+                || method == HttpMethod.DELETE;
+    }
+
+    /**
+     * @return the API key of the client when it is an issued key or, otherwise, its remote address
+     */
+    static String clientKey(HttpServletRequest request, String apiKeyHeader, Set<String> apiKeys) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return StringUtils.hasText(apiKey) && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,109 @@
+package com.polaris.police.dogsapi.controller.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.polaris.police.dogsapi.config.RateLimitProperties;
+import com.polaris.police.dogsapi.model.response.MessageDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control of the dog API. Every client has a {@link TokenBucket} per budget, keyed by its API key when the key
+ * was issued to it or, otherwise, its remote address. A request that finds its bucket empty is answered with 429 and a Retry-After header
+ * before it reaches the controller, so a looping client cannot hold database connections needed by the others.
+ * <p>
+ * Buckets are kept in a bounded cache. A bucket idle for longer than it takes to refill is dropped, which is the
+ * same as keeping it full.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Budget search;
+    private final Budget write;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MessageSource messageSource,
+                           MeterRegistry meterRegistry) {
+        this.apiKeyHeader = properties.apiKeyHeader();
+        this.apiKeys = Set.copyOf(properties.apiKeys());
+        this.search = new Budget("search", properties.searchCapacity(), properties.searchRefillPerSecond(),
+                properties.maximumClients(), meterRegistry);
+        this.write = new Budget("write", properties.writeCapacity(), properties.writeRefillPerSecond(),
+                properties.maximumClients(), meterRegistry);
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Budget budget = ClientRequests.isWrite(request) ? write : search;
+        long waitNanos = budget.tryAcquire(ClientRequests.clientKey(request, apiKeyHeader, apiKeys));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        budget.throttled.increment();
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil((double) waitNanos / TimeUnit.SECONDS.toNanos(1)));
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        MessageDTO messageDTO = new MessageDTO(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                messageSource.getMessage("too.many.requests", new Object[]{retryAfterSeconds}, request.getLocale()),
+                null,
+                request.getRequestURI());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), messageDTO);
+    }
+
+    private static final class Budget {
+
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter throttled;
+
+        private Budget(String name, int capacity, double refillPerSecond, long maximumClients, MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumClients)
+                    .expireAfterAccess(Duration.ofMillis(Math.max(1, (long) Math.ceil(capacity * 1000 / refillPerSecond))))
+                    .build();
+            this.throttled = Counter.builder("dogs.ratelimit.throttled")
+                    .description("Requests rejected because the client exceeded its budget")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+            Gauge.builder("dogs.ratelimit.clients", buckets, Cache::estimatedSize)
+                    .description("Clients with a token bucket")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+        }
+
+        private long tryAcquire(String client) {
+            return buckets.get(client, key -> new TokenBucket(capacity, refillPerSecond)).tryAcquire(System.nanoTime());
+        }
+    }
+}
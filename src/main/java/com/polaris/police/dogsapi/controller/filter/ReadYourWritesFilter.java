@@ -0,0 +1,71 @@
+package com.polaris.police.dogsapi.controller.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.polaris.police.dogsapi.config.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps the reads of a client on the primary database for a short window after it wrote, so it always sees its own
+ * changes even while the replica lags behind. Clients are told apart like in {@link RateLimitFilter}.
+ * <p>
+ * Recent writers are kept in a bounded cache that forgets them when the window ends. A writer is recorded when the
+ * write arrives, so the window is open before the response is sent, and again when it completes.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Cache<String, Boolean> recentWriters;
+    private final Counter pinnedReads;
+
+    public ReadYourWritesFilter(String apiKeyHeader, Set<String> apiKeys, Duration window, long maximumClients,
+                                MeterRegistry meterRegistry) {
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterWrite(window)
+                .build();
+        this.pinnedReads = Counter.builder("dogs.replica.pinned.reads")
+                .description("Read requests sent to the primary because the client wrote recently")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = ClientRequests.clientKey(request, apiKeyHeader, apiKeys);
+        if (ClientRequests.isWrite(request)) {
+            recentWriters.put(client, Boolean.TRUE);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+            return;
+        }
+
+        if (recentWriters.getIfPresent(client) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        pinnedReads.increment();
+        ReplicaRoutingDataSource.setPinnedToPrimary(true);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.setPinnedToPrimary(false);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.polaris.police.dogsapi.controller.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count and a refill timestamp, the bucket keeps a single value: the time
+ * at which it will be full again. Taking a token moves that time one refill interval forward, and the request is
+ * admitted while it stays within capacity intervals of now. Both facts live in one {@link AtomicLong}, so concurrent
+ * requests of a client only compete on a compare-and-set.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param capacity - Maximum number of tokens, i.e. requests admitted in a burst
+     * @param refillPerSecond - Tokens added per second
+     */
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstNanos = Math.multiplyExact(intervalNanos, capacity);
+    }
+
+    /**
+     * Take a token if one is available
+     *
+     * @param nowNanos - Current {@link System#nanoTime()}
+     * @return 0 if the token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.polaris.police.dogsapi.exception;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.polaris.police.dogsapi.model.response.FieldErrorResponse;
 import com.polaris.police.dogsapi.model.response.MessageDTO;
@@ -9,12 +10,20 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -39,10 +48,24 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<MessageDTO> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, WebRequest webRequest) {
+        return handleFieldErrors(ex.getBindingResult().getFieldErrors(), webRequest);
+    }
+
+    /**
+     * Handle validation errors of a request bound by the controller, e.g. a merged patch document
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web request
+     * @return Message object
+     */
+    @ExceptionHandler(RequestValidationException.class)
+    public ResponseEntity<MessageDTO> handleRequestValidationException(RequestValidationException ex, WebRequest webRequest) {
+        return handleFieldErrors(ex.getErrors().getFieldErrors(), webRequest);
+    }
+
+    private ResponseEntity<MessageDTO> handleFieldErrors(List<FieldError> fieldErrors, WebRequest webRequest) {
         List<FieldErrorResponse> errorMessages =
-                ex.getBindingResult()
-                        .getFieldErrors()
-                        .stream()
+                fieldErrors.stream()
                         .map(err ->
                                 new FieldErrorResponse(err.getField(), messageSource.getMessage(err, LocaleContextHolder.getLocale())))
                         .collect(Collectors.toList());
@@ -50,6 +73,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageDTO);
     }
 
+    /**
+     * Handle validation errors raised by method validation, e.g. elements of a list request body
+     * or constrained request parameters
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web request
+     * @return Message object
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<MessageDTO> handleHandlerMethodValidationException(HandlerMethodValidationException ex, WebRequest webRequest) {
+        Locale locale = LocaleContextHolder.getLocale();
+        List<FieldErrorResponse> errorMessages = new ArrayList<>();
+
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            if (result instanceof ParameterErrors errors) {
+                String prefix = (errors.getContainerIndex() == null) ? "" : "[" + errors.getContainerIndex() + "].";
+                errors.getFieldErrors().forEach(err ->
+                        errorMessages.add(new FieldErrorResponse(prefix + err.getField(), messageSource.getMessage(err, locale))));
+            } else {
+                String parameterName = result.getMethodParameter().getParameterName();
+                result.getResolvableErrors().forEach(err ->
+                        errorMessages.add(new FieldErrorResponse(parameterName, messageSource.getMessage(err, locale))));
+            }
+        }
+        MessageDTO messageDTO = getMessageDTO(HttpStatus.BAD_REQUEST, errorMessages, webRequest);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageDTO);
+    }
+
     /**
      * Handles invalid JSON payloads like malformed body.
      *
@@ -97,7 +148,7 @@ public class GlobalExceptionHandler {
     private ResponseEntity<MessageDTO> handleInvalidEnumValue(
             InvalidFormatException ex, WebRequest webRequest, Locale locale) {
 
-        String fieldName = !ex.getPath().isEmpty() ? ex.getPath().get(0).getFieldName() : "unknown";
+        String fieldName = !ex.getPath().isEmpty() ? getFieldPath(ex) : "unknown";
         String invalidValue = String.valueOf(ex.getValue());
         String allowedValues = Arrays.stream(ex.getTargetType().getEnumConstants())
                 .map(Object::toString)
@@ -119,7 +170,7 @@ public class GlobalExceptionHandler {
      * @return message object
      */
     private ResponseEntity<MessageDTO> handleInvalidDateFormat(WebRequest webRequest, InvalidFormatException invalidFormatEx, Locale locale) {
-        String fieldName = invalidFormatEx.getPath().get(0).getFieldName();
+        String fieldName = getFieldPath(invalidFormatEx);
 
         String message = messageSource.getMessage("error.invalid.date", new Object[]{fieldName}, locale);
 
@@ -141,6 +192,73 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(messageDTO);
     }
 
+    /**
+     * Record was modified since the version sent in the If-Match header
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web Request
+     * @return message object
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<MessageDTO> handlePreconditionFailedException(PreconditionFailedException ex, WebRequest webRequest) {
+        MessageDTO messageDTO = getMessageDTO(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), webRequest);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(messageDTO);
+    }
+
+    /**
+     * Record was modified by a concurrent request between reading and writing it
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web Request
+     * @return message object
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<MessageDTO> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex, WebRequest webRequest) {
+        String message = messageSource.getMessage("record.modified", new Object[]{ex.getIdentifier()}, LocaleContextHolder.getLocale());
+        MessageDTO messageDTO = getMessageDTO(HttpStatus.PRECONDITION_FAILED, message, webRequest);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(messageDTO);
+    }
+
+    /**
+     * Pagination cursor cannot be decoded
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web Request
+     * @return message object
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<MessageDTO> handleInvalidCursorException(InvalidCursorException ex, WebRequest webRequest) {
+        String message = messageSource.getMessage("invalid.cursor", null, LocaleContextHolder.getLocale());
+        MessageDTO messageDTO = getMessageDTO(HttpStatus.BAD_REQUEST, message, webRequest);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageDTO);
+    }
+
+    /**
+     * Query parameter cannot be converted to the expected type, e.g. an unknown export format
+     *
+     * @param ex - Generated exception
+     * @param webRequest - Web Request
+     * @return message object
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<MessageDTO> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex, WebRequest webRequest) {
+        Locale locale = LocaleContextHolder.getLocale();
+        Class<?> requiredType = ex.getRequiredType();
+        String message;
+        if (requiredType != null && requiredType.isEnum()) {
+            String allowedValues = Arrays.stream(requiredType.getEnumConstants())
+                    .map(Object::toString)
+                    .collect(Collectors.joining(", "));
+            message = messageSource.getMessage("error.invalid.enum", new Object[]{ex.getValue(), ex.getName(), allowedValues}, locale);
+        } else {
+            message = messageSource.getMessage("error.invalid.parameter", new Object[]{ex.getValue(), ex.getName()}, locale);
+        }
+
+        FieldErrorResponse fieldError = new FieldErrorResponse(ex.getName(), message);
+        MessageDTO messageDTO = getMessageDTO(HttpStatus.BAD_REQUEST, List.of(fieldError), webRequest);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageDTO);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<MessageDTO> handleException(Exception ex, WebRequest webRequest) {
         String message = messageSource.getMessage("internal.server.error", null, LocaleContextHolder.getLocale());
@@ -148,6 +266,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(messageDTO);
     }
 
+    /**
+     * Field name of a JSON mapping error. Elements of a list payload are prefixed with their index, e.g. [2].gender
+     *
+     * @param ex - Generated exception
+     * @return field path
+     */
+    private String getFieldPath(InvalidFormatException ex) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : ex.getPath()) {
+            if (reference.getFieldName() != null) {
+                if (!path.isEmpty()) {
+                    path.append('.');
+                }
+                path.append(reference.getFieldName());
+            } else if (reference.getIndex() >= 0) {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.toString();
+    }
+
     /**
      * Generate message object - For Field Errors
      *
@@ -162,7 +301,7 @@ public class GlobalExceptionHandler {
                 status.value(),
                 status.getReasonPhrase(), null,
                 messages,
-                webRequest.getDescription(false).replace("uri=", ""));
+                getPath(webRequest));
     }
 
     /**
@@ -180,6 +319,13 @@ public class GlobalExceptionHandler {
                 status.getReasonPhrase(),
                 message,
                 null,
-                webRequest.getDescription(false).replace("uri=", ""));
+                getPath(webRequest));
+    }
+
+    private static String getPath(WebRequest webRequest) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest) {
+            return servletWebRequest.getRequest().getRequestURI();
+        }
+        return webRequest.getDescription(false).replace("uri=", "");
     }
 }
@@ -0,0 +1,6 @@
+package com.polaris.police.dogsapi.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(Throwable cause) { super(cause); }
+}
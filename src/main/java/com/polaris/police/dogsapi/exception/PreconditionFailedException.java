@@ -0,0 +1,6 @@
+package com.polaris.police.dogsapi.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) { super(message); }
+}
@@ -0,0 +1,18 @@
+package com.polaris.police.dogsapi.exception;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Validation failure of a request that is bound outside the MVC argument resolvers, e.g. a merge patch
+ */
+public class RequestValidationException extends RuntimeException {
+
+    private final transient Errors errors;
+
+    public RequestValidationException(Errors errors) {
+        super("Validation failed for " + errors.getObjectName());
+        this.errors = errors;
+    }
+
+    public Errors getErrors() { return errors; }
+}
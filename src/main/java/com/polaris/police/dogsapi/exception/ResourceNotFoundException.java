@@ -1,8 +1,11 @@
 package com.polaris.police.dogsapi.exception;
 
+/**
+ * Missing records are a normal outcome of a lookup and are always answered with 404, so no stack trace is captured.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
-    public ResourceNotFoundException(String message) { super( message); }
+    public ResourceNotFoundException(String message) { super(message, null, false, false); }
 
-    public ResourceNotFoundException(String message, Throwable cause) { super(message, cause); }
+    public ResourceNotFoundException(String message, Throwable cause) { super(message, cause, false, false); }
 }
@@ -3,6 +3,7 @@ package com.polaris.police.dogsapi.model.db.entity;
 import com.polaris.police.dogsapi.model.enums.DogStatus;
 import com.polaris.police.dogsapi.model.enums.Gender;
 import com.polaris.police.dogsapi.model.enums.LeavingReason;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,26 +14,42 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "dogs")
+@SQLRestriction("deleted = false")
+// UPDATE statements only contain the changed columns, most updates touch the status and leaving fields only
+@DynamicUpdate
+// Second-level cache entries hold the supplier id, the supplier itself comes from the supplier region
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Dog.CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 @Builder(toBuilder = true)
 public class Dog {
+
+    public static final String CACHE_REGION = "dog";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dogs_seq")
+    @SequenceGenerator(name = "dogs_seq", sequenceName = "dogs_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name")
@@ -41,6 +58,13 @@ public class Dog {
     @Column(name = "breed")
     private String breed;
 
+    // Generated by the database, used for indexed case-insensitive search
+    @Column(name = "name_lower", insertable = false, updatable = false)
+    private String nameLower;
+
+    @Column(name = "breed_lower", insertable = false, updatable = false)
+    private String breedLower;
+
     @Column(name = "badge_id")
     private String badgeId;
 
@@ -68,8 +92,14 @@ public class Dog {
     @Column(name = "kennelling_characteristic")
     private String kennellingCharacteristic;
 
-    @Column(name = "deleted")
-    private Boolean deleted;
+    // Soft delete flag. Deleted rows are excluded from every entity query by the @SQLRestriction above.
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    // Optimistic locking version, incremented by every update. Exposed to clients as the ETag of the record.
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "supplier_id", nullable = false)
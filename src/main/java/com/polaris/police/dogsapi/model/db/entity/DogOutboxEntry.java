@@ -0,0 +1,51 @@
+package com.polaris.police.dogsapi.model.db.entity;
+
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * Pending change notification for a dog record. The payload is the dog record as JSON at the time of the change.
+ */
+@Entity
+@Table(name = "dog_outbox")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class DogOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dog_outbox_seq")
+    @SequenceGenerator(name = "dog_outbox_seq", sequenceName = "dog_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "dog_id", nullable = false)
+    private Long dogId;
+
+    @Column(name = "dog_version", nullable = false)
+    private long dogVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private DogChangeType changeType;
+
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
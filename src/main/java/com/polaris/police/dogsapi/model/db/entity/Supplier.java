@@ -2,19 +2,33 @@ package com.polaris.police.dogsapi.model.db.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 @Entity
 @Table(name = "supplier")
+// Master data, only changed by scripts
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = Supplier.CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 @Builder(toBuilder = true)
 public class Supplier {
+
+    public static final String CACHE_REGION = "supplier";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
     @Column(name = "supplier_name")
     private String supplierName;
+
+    // Generated by the database, used for indexed case-insensitive search
+    @Column(name = "supplier_name_lower", insertable = false, updatable = false)
+    private String supplierNameLower;
 }
@@ -10,6 +10,9 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface DogMapper {
 
+    @Mapping(target = "nameLower", ignore = true)
+    @Mapping(target = "breedLower", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Dog toEntity(DogDTO dto);
 
     @Mapping(target = "id", source = "id")
@@ -20,6 +23,9 @@ public interface DogMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "nameLower", ignore = true)
+    @Mapping(target = "breedLower", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Dog updateEntity(DogDTO dto, @MappingTarget Dog entity);
 
     List<DogDTO> toDtoList(List<Dog> dogList);
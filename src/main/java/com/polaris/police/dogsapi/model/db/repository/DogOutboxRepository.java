@@ -0,0 +1,38 @@
+package com.polaris.police.dogsapi.model.db.repository;
+
+import com.polaris.police.dogsapi.model.db.entity.DogOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface DogOutboxRepository extends JpaRepository<DogOutboxEntry, Long> {
+
+    /**
+     * Lock the oldest pending changes in id order. Rows locked by another dispatcher are skipped, so no change is
+     * delivered by two dispatchers.
+     */
+    @Query(value = "SELECT * FROM dog_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<DogOutboxEntry> lockNextBatch(int limit);
+
+    /**
+     * Lock the other pending changes of the given dogs. Ids are allocated in blocks per instance, so a dog's earlier
+     * change can have a higher id than its later one and fall outside the batch. Rows locked by another dispatcher
+     * are skipped.
+     */
+    @Query(value = "SELECT * FROM dog_outbox WHERE dog_id IN (:dogIds) AND id NOT IN (:ids) FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<DogOutboxEntry> lockOtherChanges(Collection<Long> dogIds, Collection<Long> ids);
+
+    /**
+     * Dogs of the batch with an earlier pending change outside the batch. Such a change was skipped because
+     * another dispatcher holds it, so the later changes of the dog must wait for it.
+     */
+    @Query("""
+            select distinct e.dogId from DogOutboxEntry e
+            where e.dogId in :dogIds and e.id not in :ids
+            and e.dogVersion < (select min(b.dogVersion) from DogOutboxEntry b where b.dogId = e.dogId and b.id in :ids)
+            """)
+    Set<Long> findDogsWithEarlierChanges(Collection<Long> dogIds, Collection<Long> ids);
+}
@@ -3,9 +3,17 @@ package com.polaris.police.dogsapi.model.db.repository;
 import com.polaris.police.dogsapi.model.db.entity.Dog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface DogRepository extends JpaRepository<Dog, Long>, JpaSpecificationExecutor<Dog> {
-    Optional<Dog> findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(Long id1, Long id2);
+/**
+ * Write paths load dogs by id, which is answered from the second-level cache when the dog is cached. Read endpoints
+ * use the DTO projections of {@link DogRepositoryCustom}.
+ */
+public interface DogRepository extends JpaRepository<Dog, Long>, JpaSpecificationExecutor<Dog>, DogRepositoryCustom {
+
+    @Query("select d.version from Dog d where d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
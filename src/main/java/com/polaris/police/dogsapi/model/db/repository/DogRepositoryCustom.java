@@ -0,0 +1,67 @@
+package com.polaris.police.dogsapi.model.db.repository;
+
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.enums.DogFacet;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.response.FacetCount;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface DogRepositoryCustom {
+
+    /**
+     * Query cache region of {@link #findDtos}
+     */
+    String LIST_CACHE_REGION = "dogList";
+
+    /**
+     * Stream dogs matching the specification in id order, with their supplier fetched in the same query.
+     * Rows are read forward-only and each entity is detached once it has been handed out, so the persistence
+     * context does not grow with the result. Must be called inside a transaction and the stream must be closed.
+     *
+     * @param spec - Search specification
+     * @return stream of detached dogs
+     */
+    Stream<Dog> streamAll(Specification<Dog> spec);
+
+    /**
+     * Find dogs matching the specification in id order. Only the response columns are selected and the rows are
+     * constructed directly as DTOs, so no entities are loaded into the persistence context. Results are kept in the
+     * query cache until the dogs or supplier table changes.
+     *
+     * @param spec - Search specification
+     * @param offset - Number of rows to skip
+     * @param limit - Maximum number of rows
+     * @return dog records
+     */
+    List<DogDTO> findDtos(Specification<Dog> spec, long offset, int limit);
+
+    /**
+     * Find a dog that is not deleted, as a DTO projection. Deleted rows are excluded by the entity restriction.
+     *
+     * @param id - Primary key value
+     * @return dog record, or empty if it does not exist or is deleted
+     */
+    Optional<DogDTO> findActiveDtoById(Long id);
+
+    /**
+     * Find dogs by primary key in a single query, as DTO projections. Deleted rows are excluded by the entity
+     * restriction. The result is in no particular order.
+     *
+     * @param ids - Primary key values
+     * @return dog records
+     */
+    List<DogDTO> findDtosByIds(Collection<Long> ids);
+
+    /**
+     * Count dogs matching the specification grouped by a facet, in a single GROUP BY query.
+     *
+     * @param spec - Search specification
+     * @param facet - Grouping dimension
+     * @return count per value, largest count first
+     */
+    List<FacetCount> countBy(Specification<Dog> spec, DogFacet facet);
+}
@@ -0,0 +1,172 @@
+package com.polaris.police.dogsapi.model.db.repository;
+
+import com.polaris.police.dogsapi.config.ReplicaRoutingDataSource;
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.enums.DogFacet;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.response.FacetCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class DogRepositoryCustomImpl implements DogRepositoryCustom {
+
+    static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Dog> streamAll(Specification<Dog> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Dog> query = cb.createQuery(Dog.class);
+        Root<Dog> root = query.from(Dog.class);
+        root.fetch("supplier", JoinType.INNER);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(root).orderBy(cb.asc(root.get("id")));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                // Every dog is read once, caching them would only evict the dogs that are read again
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream()
+                .map(dog -> {
+                    entityManager.detach(dog);
+                    return dog;
+                });
+    }
+
+    @Override
+    public List<DogDTO> findDtos(Specification<Dog> spec, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DogDTO> query = cb.createQuery(DogDTO.class);
+        Root<Dog> root = query.from(Dog.class);
+        // Built before the selection so that the selection can reuse the supplier join of the specification
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(dtoSelection(cb, root)).orderBy(cb.asc(root.get("id")));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, LIST_CACHE_REGION)
+                .setHint(HibernateHints.HINT_CACHE_MODE, listCacheMode())
+                .getResultList();
+    }
+
+    @Override
+    public Optional<DogDTO> findActiveDtoById(Long id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DogDTO> query = cb.createQuery(DogDTO.class);
+        Root<Dog> root = query.from(Dog.class);
+        query.select(dtoSelection(cb, root))
+                .where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public List<DogDTO> findDtosByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DogDTO> query = cb.createQuery(DogDTO.class);
+        Root<Dog> root = query.from(Dog.class);
+        query.select(dtoSelection(cb, root))
+                .where(root.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<FacetCount> countBy(Specification<Dog> spec, DogFacet facet) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Dog> root = query.from(Dog.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        Expression<?> value = switch (facet) {
+            case CURRENT_STATUS -> root.get("currentStatus");
+            case BREED -> root.get("breed");
+            case GENDER -> root.get("gender");
+            case SUPPLIER -> supplierJoin(root).get("supplierName");
+        };
+        Expression<Long> count = cb.count(root);
+        query.multiselect(value, count)
+                .groupBy(value)
+                .orderBy(cb.desc(count), cb.asc(value));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .map(tuple -> new FacetCount(Objects.toString(tuple.get(0), null), tuple.get(1, Long.class)))
+                .toList();
+    }
+
+    /**
+     * A read pinned to the primary must see the caller's own writes, which a result cached from a lagging replica may
+     * not show yet. It skips the query cache and replaces the entry with what the primary returned.
+     */
+    private static CacheMode listCacheMode() {
+        return ReplicaRoutingDataSource.isPinnedToPrimary() ? CacheMode.REFRESH : CacheMode.NORMAL;
+    }
+
+    /**
+     * Supplier join of the search specification, or a new inner join when the specification has none
+     */
+    private From<?, ?> supplierJoin(Root<Dog> root) {
+        return root.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals("supplier"))
+                .findFirst()
+                .orElseGet(() -> root.join("supplier", JoinType.INNER));
+    }
+
+    /**
+     * Columns of the DogDTO all-args constructor, in field order. Reuses the supplier join of the search
+     * specification when there is one.
+     */
+    private Selection<DogDTO> dtoSelection(CriteriaBuilder cb, Root<Dog> root) {
+        From<?, ?> supplier = supplierJoin(root);
+
+        return cb.construct(DogDTO.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("breed"),
+                supplier.get("id"),
+                supplier.get("supplierName"),
+                root.get("badgeId"),
+                root.get("birthDate"),
+                root.get("dateAcquired"),
+                root.get("gender"),
+                root.get("currentStatus"),
+                root.get("leavingReason"),
+                root.get("leavingDate"),
+                root.get("kennellingCharacteristic"),
+                root.get("version"));
+    }
+}
@@ -0,0 +1,7 @@
+package com.polaris.police.dogsapi.model.enums;
+
+public enum DogChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,11 @@
+package com.polaris.police.dogsapi.model.enums;
+
+/**
+ * Dimensions the dog records can be counted by
+ */
+public enum DogFacet {
+    CURRENT_STATUS,
+    BREED,
+    GENDER,
+    SUPPLIER
+}
@@ -1,6 +1,7 @@
 package com.polaris.police.dogsapi.model.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.polaris.police.dogsapi.model.enums.DogStatus;
 import com.polaris.police.dogsapi.model.enums.Gender;
@@ -59,4 +60,8 @@ public class DogDTO {
 
     @Size(max = 500, message = "{invalid.field.length}")
     private String kennellingCharacteristic;
+
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
 }
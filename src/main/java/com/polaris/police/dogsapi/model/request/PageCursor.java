@@ -0,0 +1,29 @@
+package com.polaris.police.dogsapi.model.request;
+
+import com.polaris.police.dogsapi.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor. Clients get it from the X-Next-Cursor response header and pass it back
+ * unchanged in the "after" query parameter.
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static Long decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            return Long.parseLong(value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(ex);
+        }
+    }
+}
@@ -5,11 +5,14 @@
     import org.springframework.context.MessageSource;
     import org.springframework.context.i18n.LocaleContextHolder;
     import java.util.Arrays;
+    import java.util.Set;
+    import java.util.stream.Collectors;
 
     public class EnumValueValidator implements ConstraintValidator<ValidEnum, Enum<?>> {
 
         private final MessageSource messageSource;
-        private Enum<?>[] allowedValues;
+        private Set<?> allowedValues;
+        private String allowedNames;
         private String fieldName;
 
         public EnumValueValidator(MessageSource messageSource) {
@@ -18,23 +21,21 @@
 
         @Override
         public void initialize(ValidEnum constraintAnnotation) {
-            this.allowedValues = constraintAnnotation.enumClass().getEnumConstants();
+            this.allowedValues = ValidationPlan.allowedValues(constraintAnnotation);
+            this.allowedNames = Arrays.stream(constraintAnnotation.enumClass().getEnumConstants())
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", "));
             this.fieldName = constraintAnnotation.fieldName();
         }
 
         @Override
         public boolean isValid(Enum<?> value, ConstraintValidatorContext context) {
-            String invalidValue = (value == null) ? "null" : value.toString();
-            boolean valid = value != null && Arrays.asList(allowedValues).contains(value);
+            boolean valid = value != null && allowedValues.contains(value);
 
             if (!valid) {
-                String allowed = Arrays.stream(allowedValues)
-                        .map(Enum::name)
-                        .reduce((s1, s2) -> s1 + ", " + s2)
-                        .orElse("");
-
+                String invalidValue = (value == null) ? "null" : value.toString();
                 String message = messageSource.getMessage(
-                        "error.invalid.enum", new Object[]{invalidValue, fieldName, allowed}, LocaleContextHolder.getLocale());
+                        "error.invalid.enum", new Object[]{invalidValue, fieldName, allowedNames}, LocaleContextHolder.getLocale());
 
                 context.disableDefaultConstraintViolation();
                 context.buildConstraintViolationWithTemplate(message)
@@ -0,0 +1,71 @@
+package com.polaris.police.dogsapi.model.request.validator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validator for request bodies that checks objects of the planned classes against their {@link ValidationPlan} first.
+ * Valid objects, the common case, are accepted without running the validator. Invalid ones and objects of other
+ * classes are passed to the validator, so the reported errors are the same as without the plans.
+ */
+public class PrecompiledValidator extends SpringValidatorAdapter {
+
+    private final Map<Class<?>, ValidationPlan> plans = new HashMap<>();
+
+    /**
+     * @param targetValidator - Validator reporting the violations
+     * @param types - Classes to compile a plan for
+     */
+    public PrecompiledValidator(Validator targetValidator, Class<?>... types) {
+        super(targetValidator);
+        Clock clock = targetValidator instanceof ValidatorFactory factory
+                ? factory.getClockProvider().getClock()
+                : Clock.systemDefaultZone();
+        for (Class<?> type : types) {
+            ValidationPlan.compile(type, targetValidator, clock).ifPresent(plan -> plans.put(type, plan));
+        }
+    }
+
+    /**
+     * @param type - Validated class
+     * @return true if objects of the class are checked by a plan
+     */
+    public boolean hasPlan(Class<?> type) {
+        return plans.containsKey(type);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (!passesPlan(target)) {
+            super.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        // Hints select validation groups, which the plans do not cover
+        if (validationHints.length > 0 || !passesPlan(target)) {
+            super.validate(target, errors, validationHints);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        if (groups.length == 0 && passesPlan(object)) {
+            return Set.of();
+        }
+        return super.validate(object, groups);
+    }
+
+    private boolean passesPlan(Object target) {
+        ValidationPlan plan = plans.get(target.getClass());
+        return plan != null && plan.isValid(target);
+    }
+}
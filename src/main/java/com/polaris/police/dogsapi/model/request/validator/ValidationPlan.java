@@ -0,0 +1,116 @@
+package com.polaris.police.dogsapi.model.request.validator;
+
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ElementDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import jakarta.validation.metadata.Scope;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import org.springframework.util.ReflectionUtils;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Field checks of one class, compiled once from its Bean Validation metadata. The plan only answers whether an
+ * object is valid; violations and their messages are still produced by the validator.
+ * <p>
+ * Supported are @NotNull, @Size on text, @PastOrPresent on dates and @ValidEnum declared on fields in the default
+ * group. A class with any other constraint, a cascaded property or a class-level constraint has no plan.
+ */
+public final class ValidationPlan {
+
+    private static final Set<Class<?>> DEFAULT_GROUP = Set.of(Default.class);
+
+    private final List<Check> checks;
+
+    private ValidationPlan(List<Check> checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * Compile the plan of a class
+     *
+     * @param type - Validated class
+     * @param validator - Validator providing the constraint metadata
+     * @param clock - Clock of @PastOrPresent, as used by the validator
+     * @return plan, or empty when a constraint of the class is not supported
+     */
+    public static Optional<ValidationPlan> compile(Class<?> type, Validator validator, Clock clock) {
+        BeanDescriptor bean = validator.getConstraintsForClass(type);
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Check> checks = new ArrayList<>();
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            Field field = ReflectionUtils.findField(type, property.getPropertyName());
+            ElementDescriptor.ConstraintFinder onField = property.findConstraints()
+                    .lookingAt(Scope.LOCAL_ELEMENT)
+                    .declaredOn(ElementType.FIELD);
+            if (field == null || property.isCascaded() || !property.getConstrainedContainerElementTypes().isEmpty()
+                    || onField.getConstraintDescriptors().size() != property.getConstraintDescriptors().size()) {
+                return Optional.empty();
+            }
+            ReflectionUtils.makeAccessible(field);
+            for (ConstraintDescriptor<?> constraint : property.getConstraintDescriptors()) {
+                Predicate<Object> rule = rule(constraint, field.getType(), clock);
+                if (rule == null) {
+                    return Optional.empty();
+                }
+                checks.add(new Check(field, rule));
+            }
+        }
+        return Optional.of(new ValidationPlan(List.copyOf(checks)));
+    }
+
+    /**
+     * @param target - Object of the planned class
+     * @return true if the validator would report no violation
+     */
+    public boolean isValid(Object target) {
+        for (Check check : checks) {
+            if (!check.rule().test(ReflectionUtils.getField(check.field(), target))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Predicate<Object> rule(ConstraintDescriptor<?> constraint, Class<?> fieldType, Clock clock) {
+        if (!constraint.getGroups().equals(DEFAULT_GROUP) || !constraint.getComposingConstraints().isEmpty()) {
+            return null;
+        }
+        return switch (constraint.getAnnotation()) {
+            case NotNull notNull -> value -> value != null;
+            case Size size when CharSequence.class.isAssignableFrom(fieldType) -> value ->
+                    value == null || (((CharSequence) value).length() >= size.min() && ((CharSequence) value).length() <= size.max());
+            case PastOrPresent pastOrPresent when fieldType == LocalDate.class -> value ->
+                    value == null || !((LocalDate) value).isAfter(LocalDate.now(clock));
+            case ValidEnum validEnum when fieldType == validEnum.enumClass() -> {
+                Set<?> allowed = allowedValues(validEnum);
+                yield value -> value != null && allowed.contains(value);
+            }
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Set<?> allowedValues(ValidEnum validEnum) {
+        return EnumSet.allOf((Class) validEnum.enumClass());
+    }
+
+    private record Check(Field field, Predicate<Object> rule) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.polaris.police.dogsapi.model.response;
+
+import java.util.List;
+
+/**
+ * Dog counts per value of each facet, largest count first
+ */
+public record DogFacets(
+        List<FacetCount> currentStatus,
+        List<FacetCount> breed,
+        List<FacetCount> gender,
+        List<FacetCount> supplier
+) {
+}
@@ -0,0 +1,10 @@
+package com.polaris.police.dogsapi.model.response;
+
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import java.util.List;
+
+public record DogSlice(
+        List<DogDTO> content,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,10 @@
+package com.polaris.police.dogsapi.model.response;
+
+/**
+ * Number of dogs sharing a value. The value is null for dogs without one, e.g. no gender recorded.
+ */
+public record FacetCount(
+        String value,
+        long count
+) {
+}
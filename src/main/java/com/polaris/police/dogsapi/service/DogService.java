@@ -2,12 +2,23 @@ package com.polaris.police.dogsapi.service;
 
 import com.polaris.police.dogsapi.model.request.DogDTO;
 import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.model.response.DogFacets;
+import com.polaris.police.dogsapi.model.response.DogSlice;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 public interface DogService {
     DogDTO createDog(DogDTO dto);
-    void deleteDog(Long id);
-    DogDTO updateDog(Long id, DogDTO dto);
+    List<DogDTO> createDogs(List<DogDTO> dtoList);
+    void deleteDog(Long id, Long expectedVersion);
+    DogDTO updateDog(Long id, DogDTO dto, Long expectedVersion);
+    DogDTO patchDog(Long id, UnaryOperator<DogDTO> patch, Long expectedVersion);
     DogDTO getDog(Long id);
+    long getDogVersion(Long id);
     List<DogDTO> getDogList(SearchParam searchParam);
+    DogSlice getDogSlice(SearchParam searchParam, Long afterId);
+    List<DogDTO> searchDogs(String query, int limit);
+    DogFacets getDogFacets(SearchParam searchParam);
+    long exportDogs(SearchParam searchParam, Consumer<DogDTO> consumer);
 }
@@ -0,0 +1,281 @@
+package com.polaris.police.dogsapi.service.impl;
+
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.repository.DogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the searchable text of active dogs.
+ * <p>
+ * Name, breed and kennelling characteristic are split into lower-case terms. A query word matches a term exactly, as
+ * a prefix of a longer term, or approximately by trigram similarity, so partial and misspelled words still find the
+ * record. Each match is weighted by the field it came from and the best match of every query word is summed per dog.
+ * <p>
+ * The index is built from the database when the application is ready and kept current by the write methods of the
+ * dog service. Their changes are applied when the transaction commits, so rolled-back writes leave the index as it
+ * was. Searches share a read lock and changes are serialized. Only ids are returned; ids of records removed
+ * behind the index are dropped when the results are loaded.
+ */
+@Component
+@Slf4j
+public class DogFullTextIndex {
+
+    static final double MIN_SIMILARITY = 0.3;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 3;
+    private static final int BREED_WEIGHT = 2;
+    private static final int CHARACTERISTIC_WEIGHT = 1;
+    private static final double PREFIX_SCORE = 0.8;
+    private static final double FUZZY_SCORE = 0.7;
+    // Highest score first, then lowest id
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+            Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey());
+
+    private final DogRepository dogRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> dog id -> weight of the best field containing the term
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // trigram -> terms containing it
+    private final Map<String, Set<String>> trigramTerms = new HashMap<>();
+    // dog id -> indexed terms, used to remove a dog
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    public DogFullTextIndex(DogRepository dogRepository) {
+        this.dogRepository = dogRepository;
+    }
+
+    /**
+     * Rebuild the index from all active dogs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            trigramTerms.clear();
+            documents.clear();
+            try (Stream<Dog> dogs = dogRepository.streamAll(Specification.unrestricted())) {
+                dogs.forEach(dog -> add(dog.getId(), terms(dog)));
+            }
+            log.debug("Indexed {} dogs with {} terms", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a dog to the index, replacing its previous text, when the current transaction commits. The text is read
+     * now, so later changes to the entity are not indexed.
+     *
+     * @param dog - Saved dog
+     */
+    public void put(Dog dog) {
+        Long id = dog.getId();
+        Map<String, Integer> terms = terms(dog);
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+                add(id, terms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Remove a dog from the index when the current transaction commits
+     *
+     * @param id - Primary key value
+     */
+    public void remove(Long id) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Find dogs matching any word of the query
+     *
+     * @param query - Free text
+     * @param limit - Maximum number of ids
+     * @return ids of matching dogs, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> words = tokenize(query).distinct().toList();
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                Map<Long, Double> best = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(word, true).entrySet()) {
+                    if (!entry.getKey().startsWith(word)) {
+                        break;
+                    }
+                    double score = entry.getKey().length() == word.length() ? 1.0 : PREFIX_SCORE;
+                    collect(best, entry.getValue(), score);
+                }
+                similarTerms(word).forEach((term, similarity) ->
+                        collect(best, postings.get(term), FUZZY_SCORE * similarity));
+                best.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Keep only the best matches in a bounded heap instead of sorting every match
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    /**
+     * @return number of indexed dogs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> terms(Dog dog) {
+        Map<String, Integer> terms = new HashMap<>();
+        addField(terms, dog.getName(), NAME_WEIGHT);
+        addField(terms, dog.getBreed(), BREED_WEIGHT);
+        addField(terms, dog.getKennellingCharacteristic(), CHARACTERISTIC_WEIGHT);
+        return terms;
+    }
+
+    private void add(Long id, Map<String, Integer> terms) {
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        documents.put(id, terms);
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, this::newTerm).put(id, weight));
+    }
+
+    private static void addField(Map<String, Integer> terms, String text, int weight) {
+        if (text != null) {
+            tokenize(text).forEach(term -> terms.merge(term, weight, Math::max));
+        }
+    }
+
+    private Map<Long, Integer> newTerm(String term) {
+        for (String trigram : trigrams(term)) {
+            trigramTerms.computeIfAbsent(trigram, t -> new LinkedHashSet<>()).add(term);
+        }
+        return new HashMap<>();
+    }
+
+    private void removeDocument(Long id) {
+        Map<String, Integer> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> dogs = postings.get(term);
+            dogs.remove(id);
+            if (dogs.isEmpty()) {
+                postings.remove(term);
+                for (String trigram : trigrams(term)) {
+                    Set<String> trigramSet = trigramTerms.get(trigram);
+                    trigramSet.remove(term);
+                    if (trigramSet.isEmpty()) {
+                        trigramTerms.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Terms sharing enough trigrams with the word, excluding terms it is a prefix of (already scored higher)
+     */
+    private Map<String, Double> similarTerms(String word) {
+        Set<String> wordTrigrams = trigrams(word);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : wordTrigrams) {
+            for (String term : trigramTerms.getOrDefault(trigram, Set.of())) {
+                shared.merge(term, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Double> similar = new HashMap<>();
+        shared.forEach((term, count) -> {
+            if (!term.startsWith(word)) {
+                double similarity = (double) count / (wordTrigrams.size() + trigrams(term).size() - count);
+                if (similarity >= MIN_SIMILARITY) {
+                    similar.put(term, similarity);
+                }
+            }
+        });
+        return similar;
+    }
+
+    private static void collect(Map<Long, Double> best, Map<Long, Integer> dogs, double score) {
+        dogs.forEach((id, weight) -> best.merge(id, score * weight, Math::max));
+    }
+
+    static Stream<String> tokenize(String text) {
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT)).filter(token -> !token.isEmpty());
+    }
+
+    /**
+     * Trigrams of a term padded like PostgreSQL pg_trgm, so short terms and word starts carry more weight
+     */
+    static Set<String> trigrams(String term) {
+        String padded = "  " + term + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,76 @@
+package com.polaris.police.dogsapi.service.impl;
+
+import com.polaris.police.dogsapi.config.ReplicaRoutingDataSource;
+import com.polaris.police.dogsapi.model.request.SearchParam;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write generation of the dog records, used to key the dog list and facets caches. Every committed change advances the
+ * generation, so lists cached before the change are no longer looked up and age out of the cache without being
+ * scanned or evicted.
+ */
+@Component
+public class DogListGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @return current generation
+     */
+    public long current() {
+        return generation.get();
+    }
+
+    /**
+     * Advance the generation when the current transaction commits, or at once outside a transaction. Lists read
+     * before the commit are cached under the previous generation, so they cannot be served afterwards.
+     */
+    public void advance() {
+        TransactionCallbacks.afterCommit(generation::incrementAndGet);
+    }
+
+    /**
+     * Cache key of a search in the current generation. Filters are normalized like the search query, so blank
+     * filters and differences in case share an entry.
+     *
+     * @param searchParam - Search parameters
+     * @return cache key
+     */
+    public Key key(SearchParam searchParam) {
+        return new Key(current(), normalize(searchParam.getName()), normalize(searchParam.getBreed()),
+                normalize(searchParam.getSupplier()), searchParam.getPageNum(), searchParam.getPageSize());
+    }
+
+    /**
+     * Cache key of the facets of a search in the current generation, like {@link #key(SearchParam)} without paging.
+     *
+     * @param searchParam - Search parameters
+     * @return cache key
+     */
+    public FacetsKey facetsKey(SearchParam searchParam) {
+        return new FacetsKey(current(), normalize(searchParam.getName()), normalize(searchParam.getBreed()),
+                normalize(searchParam.getSupplier()));
+    }
+
+    /**
+     * Reads pinned to the primary database after a write by the same client bypass the cache, so they neither
+     * see nor keep lists read from a lagging replica.
+     *
+     * @return whether the current read may use the cache
+     */
+    public boolean isCacheable() {
+        return !ReplicaRoutingDataSource.isPinnedToPrimary();
+    }
+
+    private static String normalize(String filter) {
+        return StringUtils.isBlank(filter) ? null : filter.toLowerCase();
+    }
+
+    public record Key(long generation, String name, String breed, String supplier, int pageNum, int pageSize) {
+    }
+
+    public record FacetsKey(long generation, String name, String breed, String supplier) {
+    }
+}
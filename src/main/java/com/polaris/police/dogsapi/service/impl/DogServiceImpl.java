@@ -1,53 +1,81 @@
 package com.polaris.police.dogsapi.service.impl;
 
+import com.polaris.police.dogsapi.config.CacheConfig;
+import com.polaris.police.dogsapi.config.DogSearchProperties;
+import com.polaris.police.dogsapi.exception.PreconditionFailedException;
 import com.polaris.police.dogsapi.exception.ResourceNotFoundException;
 import com.polaris.police.dogsapi.model.db.entity.Dog;
 import com.polaris.police.dogsapi.model.db.entity.Supplier;
 import com.polaris.police.dogsapi.model.db.mapper.DogMapper;
 import com.polaris.police.dogsapi.model.db.repository.DogRepository;
-import com.polaris.police.dogsapi.model.db.repository.SupplierRepository;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.enums.DogFacet;
 import com.polaris.police.dogsapi.model.request.DogDTO;
 import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.model.response.DogFacets;
+import com.polaris.police.dogsapi.model.response.DogSlice;
 import com.polaris.police.dogsapi.service.DogService;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import com.polaris.police.dogsapi.service.outbox.DogOutbox;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
+@Timed(value = "dogs.service", description = "Dog service method execution time")
 public class DogServiceImpl implements DogService {
 
-    private final SupplierRepository supplierRepository;
+    private final SupplierRegistry supplierRegistry;
     private final DogRepository dogRepository;
     private final MessageSource messageSource;
     private final DogMapper dogMapper;
+    private final DogFullTextIndex dogFullTextIndex;
+    private final DogOutbox dogOutbox;
+    private final DogSearchProperties dogSearchProperties;
+    private final DogListGeneration dogListGeneration;
 
-    public DogServiceImpl(SupplierRepository supplierRepository, DogRepository dogRepository, MessageSource messageSource, DogMapper dogMapper) {
-        this.supplierRepository = supplierRepository;
+    public DogServiceImpl(SupplierRegistry supplierRegistry, DogRepository dogRepository, MessageSource messageSource,
+                          DogMapper dogMapper, DogFullTextIndex dogFullTextIndex, DogOutbox dogOutbox,
+                          DogSearchProperties dogSearchProperties, DogListGeneration dogListGeneration) {
+        this.supplierRegistry = supplierRegistry;
         this.dogRepository = dogRepository;
         this.messageSource = messageSource;
         this.dogMapper = dogMapper;
+        this.dogFullTextIndex = dogFullTextIndex;
+        this.dogOutbox = dogOutbox;
+        this.dogSearchProperties = dogSearchProperties;
+        this.dogListGeneration = dogListGeneration;
     }
 
     /**
-     * Save dog record
+     * Save dog record. The change is recorded in the outbox in the same transaction.
      *
      * @param dto - Dog dto object
      * @return save dog instance
      */
     @Override
+    @CachePut(cacheNames = CacheConfig.DOGS_CACHE, key = "#result.id")
+    @Transactional
     public DogDTO createDog(DogDTO dto) {
         log.debug("Creating dog with name={} and supplierId={}", dto.getName(), dto.getSupplierId());
         Supplier supplier = findSupplier(dto.getSupplierId());
@@ -55,51 +83,163 @@ public class DogServiceImpl implements DogService {
         dog.setCreatedAt(LocalDateTime.now());
         dog.setSupplier(supplier);
         dogRepository.save(dog);
+        dogFullTextIndex.put(dog);
 
-        return dogMapper.toDto(dog);
+        DogDTO created = dogMapper.toDto(dog);
+        dogOutbox.record(DogChangeType.CREATED, created);
+        dogListGeneration.advance();
+        return created;
     }
 
     /**
-     * Delete dog instance (Soft delete)
+     * Save a batch of dog records in one transaction. Each distinct supplier is resolved once and the inserts
+     * are sent to the database in JDBC batches.
+     *
+     * @param dtoList - Dog dto objects
+     * @return saved dog instances
+     */
+    @Override
+    @Transactional
+    public List<DogDTO> createDogs(List<DogDTO> dtoList) {
+        log.debug("Creating {} dogs", dtoList.size());
+        Map<Integer, Supplier> suppliers = new HashMap<>();
+        for (DogDTO dto : dtoList) {
+            suppliers.computeIfAbsent(dto.getSupplierId(), this::findSupplier);
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Dog> dogs = new ArrayList<>(dtoList.size());
+        for (DogDTO dto : dtoList) {
+            Dog dog = dogMapper.toEntity(dto);
+            dog.setCreatedAt(createdAt);
+            dog.setSupplier(suppliers.get(dto.getSupplierId()));
+            dogs.add(dog);
+        }
+        dogRepository.saveAll(dogs);
+        dogs.forEach(dogFullTextIndex::put);
+
+        List<DogDTO> created = dogMapper.toDtoList(dogs);
+        dogOutbox.recordAll(DogChangeType.CREATED, created);
+        dogListGeneration.advance();
+        return created;
+    }
+
+    /**
+     * Delete dog instance (Soft delete). The change is recorded in the outbox in the same transaction.
      *
      * @param id - Primary key value
+     * @param expectedVersion - Version the client last read, or null to delete unconditionally
      */
     @Override
-    public void deleteDog(Long id) {
+    @CacheEvict(cacheNames = CacheConfig.DOGS_CACHE, key = "#id")
+    @Transactional
+    public void deleteDog(Long id, Long expectedVersion) {
         log.debug("Deleting dog id={}", id);
         Dog dog = findDog(id);
+        checkVersion(dog, expectedVersion);
         dog.setDeleted(true);
         dogRepository.save(dog);
+        dogRepository.flush();
+        dogFullTextIndex.remove(id);
+        dogOutbox.record(DogChangeType.DELETED, dogMapper.toDto(dog));
+        dogListGeneration.advance();
     }
 
     /**
-     * Update dog instance
+     * Update dog instance. The change is recorded in the outbox in the same transaction.
      *
      * @param id - Primary key value
      * @param dto - Dog dto object
+     * @param expectedVersion - Version the client last read, or null to update unconditionally
      * @return Update dog record
      */
     @Override
-    public DogDTO updateDog(Long id, DogDTO dto) {
+    @CachePut(cacheNames = CacheConfig.DOGS_CACHE, key = "#id")
+    @Transactional
+    public DogDTO updateDog(Long id, DogDTO dto, Long expectedVersion) {
         log.debug("Updating dog id={} with new data={}", id, dto);
         Dog dog = findDog(id);
+        checkVersion(dog, expectedVersion);
         Supplier supplier = findSupplier(dto.getSupplierId());
         Dog updatedDog = dogMapper.updateEntity(dto, dog);
         updatedDog.setSupplier(supplier);
         dogRepository.save(updatedDog);
-        return dogMapper.toDto(updatedDog);
+        // Flushed now so the returned and recorded version is the incremented one
+        dogRepository.flush();
+        dogFullTextIndex.put(updatedDog);
+
+        DogDTO updated = dogMapper.toDto(updatedDog);
+        dogOutbox.record(DogChangeType.UPDATED, updated);
+        dogListGeneration.advance();
+        return updated;
+    }
+
+    /**
+     * Partially update dog instance. The dog is loaded without its supplier and the current supplier is taken from
+     * the registry, so the supplier is only resolved again when the patch changes it. Only the changed columns are
+     * written (see {@link Dog}). The change is recorded in the outbox in the same transaction.
+     *
+     * @param id - Primary key value
+     * @param patch - Returns the patched copy of the current record
+     * @param expectedVersion - Version the client last read, or null to update unconditionally
+     * @return Updated dog record
+     */
+    @Override
+    @CachePut(cacheNames = CacheConfig.DOGS_CACHE, key = "#id")
+    @Transactional
+    public DogDTO patchDog(Long id, UnaryOperator<DogDTO> patch, Long expectedVersion) {
+        log.debug("Patching dog id={}", id);
+        Dog dog = findDog(id);
+        checkVersion(dog, expectedVersion);
+
+        // Reading the id does not initialize the lazy supplier
+        Integer supplierId = dog.getSupplier().getId();
+        dog.setSupplier(findSupplier(supplierId));
+        DogDTO patched = patch.apply(dogMapper.toDto(dog));
+        if (!Objects.equals(patched.getSupplierId(), supplierId)) {
+            dog.setSupplier(findSupplier(patched.getSupplierId()));
+        }
+        dogMapper.updateEntity(patched, dog);
+        dogRepository.save(dog);
+        dogRepository.flush();
+        dogFullTextIndex.put(dog);
+
+        DogDTO updated = dogMapper.toDto(dog);
+        dogOutbox.record(DogChangeType.UPDATED, updated);
+        dogListGeneration.advance();
+        return updated;
     }
 
     /**
-     * Get dog record
+     * Get dog record. Results are kept in the dogs cache, which is refreshed by create/update and
+     * evicted by delete. A read finishing after a concurrent update does not replace the newer cached version.
+     * Read as a DTO projection in a read-only transaction, so no entity is loaded.
      *
      * @param id - Primary key value
      * @return dog record
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.DOGS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
     public DogDTO getDog(Long id) {
-        Dog dog = findDog(id);
-        return dogMapper.toDto(dog);
+        return dogRepository.findActiveDtoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(messageSource.getMessage("record.not.exist",
+                        new Object[]{id}, LocaleContextHolder.getLocale())));
+    }
+
+    /**
+     * Get the current version of a dog record. Only the version column is read, so conditional requests can be
+     * answered without loading or serializing the record.
+     *
+     * @param id - Primary key value
+     * @return record version
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getDogVersion(Long id) {
+        return dogRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(messageSource.getMessage("record.not.exist",
+                        new Object[]{id}, LocaleContextHolder.getLocale())));
     }
 
     private Supplier findSupplier(Integer supplierId) {
@@ -110,7 +250,7 @@ public class DogServiceImpl implements DogService {
             );
         }
 
-        Optional<Supplier> optSupplier = optSupplier = supplierRepository.findById(supplierId);
+        Optional<Supplier> optSupplier = supplierRegistry.findById(supplierId);
 
         if (optSupplier.isEmpty()) {
             log.debug("No result found. Supplier id: {}", supplierId);
@@ -121,8 +261,12 @@ public class DogServiceImpl implements DogService {
         return optSupplier.get();
     }
 
+    /**
+     * Load a dog for a change. Found by id, so the dog and its supplier come from the second-level cache when they
+     * are cached. A cached dog is not filtered by the restriction on the entity, so deleted dogs are checked here.
+     */
     private Dog findDog(Long id) {
-        Optional<Dog> optDog = dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(id, id);
+        Optional<Dog> optDog = dogRepository.findById(id).filter(dog -> !dog.isDeleted());
         if (optDog.isEmpty()) {
             throw new ResourceNotFoundException(messageSource.getMessage("record.not.exist",
                     new Object[]{id}, LocaleContextHolder.getLocale()));
@@ -131,39 +275,168 @@ public class DogServiceImpl implements DogService {
     }
 
     /**
-     * Search dog records
+     * Result of a search without matches. An empty list is returned without raising an exception unless
+     * empty results are configured to be answered with 404.
+     */
+    private List<DogDTO> emptyResult() {
+        if (dogSearchProperties.emptyResultNotFound()) {
+            throw new ResourceNotFoundException(messageSource.getMessage("records.not.found", null, LocaleContextHolder.getLocale()));
+        }
+        return List.of();
+    }
+
+    /**
+     * Reject the change before anything is written when the client edited an older version. Concurrent changes
+     * made after this check are still caught by the version column when the update is flushed.
+     */
+    private void checkVersion(Dog dog, Long expectedVersion) {
+        if (expectedVersion != null && dog.getVersion() != expectedVersion) {
+            log.debug("Version mismatch for dog id={}. Expected={}, current={}", dog.getId(), expectedVersion, dog.getVersion());
+            throw new PreconditionFailedException(messageSource.getMessage("record.modified",
+                    new Object[]{dog.getId()}, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    /**
+     * Search dog records. Rows are read as DTO projections in a read-only transaction. The total count is not
+     * needed by the API, so no COUNT query is issued. Results are kept in the dog lists cache per search and write
+     * generation (see {@link DogListGeneration}), so a repeated search is answered without a transaction until
+     * the next write.
      *
      * @param searchParam - Search parameters
      * @return dog records
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.DOG_LISTS_CACHE, key = "@dogListGeneration.key(#searchParam)",
+            condition = "@dogListGeneration.isCacheable()")
+    @Transactional(readOnly = true)
     public List<DogDTO> getDogList(SearchParam searchParam) {
-        Specification<Dog> spec =
-                (root, cq, cb) ->
-                        cb.or(cb.isFalse(root.get("deleted")), cb.isNull(root.get("deleted")));
+        Specification<Dog> spec = buildSpecification(searchParam);
+        long offset = (long) searchParam.getPageNum() * searchParam.getPageSize();
+
+        List<DogDTO> dtoList = dogRepository.findDtos(spec, offset, searchParam.getPageSize());
+        if (dtoList.isEmpty()) {
+            return emptyResult();
+        }
+        return dtoList;
+    }
+
+    /**
+     * Search dog records using keyset pagination. Reads pageSize + 1 rows after the given id, so the next page
+     * is detected without a COUNT query and the cost does not grow with the scroll depth.
+     *
+     * @param searchParam - Search parameters (page number is ignored)
+     * @param afterId - Last id of the previous page, or null for the first page
+     * @return dog records and whether more records exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DogSlice getDogSlice(SearchParam searchParam, Long afterId) {
+        Specification<Dog> spec = buildSpecification(searchParam);
+        if (afterId != null) {
+            spec = spec.and((root, cq, cb) -> cb.greaterThan(root.get("id"), afterId));
+        }
+        int pageSize = searchParam.getPageSize();
+
+        List<DogDTO> dtoList = dogRepository.findDtos(spec, 0, pageSize + 1);
+        if (dtoList.isEmpty()) {
+            return new DogSlice(emptyResult(), false);
+        }
+        boolean hasNext = dtoList.size() > pageSize;
+        return new DogSlice(hasNext ? dtoList.subList(0, pageSize) : dtoList, hasNext);
+    }
+
+    /**
+     * Free text search over name, breed and kennelling characteristic. Ranked ids come from the in-memory
+     * {@link DogFullTextIndex} and the records are loaded in one query, so the dogs table is not scanned.
+     *
+     * @param query - Free text, partial and misspelled words are matched
+     * @param limit - Maximum number of records
+     * @return dog records, best match first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DogDTO> searchDogs(String query, int limit) {
+        List<Long> ids = dogFullTextIndex.search(query, limit);
+        Map<Long, DogDTO> dogsById = new HashMap<>();
+        dogRepository.findDtosByIds(ids).forEach(dto -> dogsById.put(dto.getId(), dto));
+
+        List<DogDTO> dtoList = ids.stream()
+                .map(dogsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        if (dtoList.isEmpty()) {
+            return emptyResult();
+        }
+        return dtoList;
+    }
+
+    /**
+     * Count dog records matching the search parameters by status, breed, gender and supplier. Each facet is one
+     * GROUP BY query. Results are kept in the facets cache per filter combination and write generation (see
+     * {@link DogListGeneration}), like the dog lists.
+     *
+     * @param searchParam - Search parameters (paging is ignored)
+     * @return counts per facet value, empty when no record matches
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.FACETS_CACHE, key = "@dogListGeneration.facetsKey(#searchParam)",
+            condition = "@dogListGeneration.isCacheable()")
+    @Transactional(readOnly = true)
+    public DogFacets getDogFacets(SearchParam searchParam) {
+        Specification<Dog> spec = buildSpecification(searchParam);
+        return new DogFacets(
+                dogRepository.countBy(spec, DogFacet.CURRENT_STATUS),
+                dogRepository.countBy(spec, DogFacet.BREED),
+                dogRepository.countBy(spec, DogFacet.GENDER),
+                dogRepository.countBy(spec, DogFacet.SUPPLIER));
+    }
+
+    /**
+     * Export all dog records matching the search parameters. Records are read from a forward-only stream and
+     * handed to the consumer one at a time, so memory use does not depend on the number of records.
+     *
+     * @param searchParam - Search parameters (paging is ignored)
+     * @param consumer - Receives each dog record in id order
+     * @return number of exported records
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDogs(SearchParam searchParam, Consumer<DogDTO> consumer) {
+        Specification<Dog> spec = buildSpecification(searchParam);
+        long count = 0;
+        try (Stream<Dog> dogs = dogRepository.streamAll(spec)) {
+            for (Dog dog : (Iterable<Dog>) dogs::iterator) {
+                consumer.accept(dogMapper.toDto(dog));
+                count++;
+            }
+        }
+        log.debug("Exported {} dogs", count);
+        return count;
+    }
+
+    private Specification<Dog> buildSpecification(SearchParam searchParam) {
+        // Deleted records are excluded by the restriction on the Dog entity
+        Specification<Dog> spec = Specification.unrestricted();
 
         if (StringUtils.isNotBlank(searchParam.getName())) {
             spec = spec.and((root, cq, cb) ->
-                    cb.equal(cb.lower(root.get("name")), searchParam.getName().toLowerCase()));
+                    cb.equal(root.get("nameLower"), searchParam.getName().toLowerCase()));
         }
         if (StringUtils.isNotBlank(searchParam.getBreed())) {
             spec = spec.and((root, cq, cb) ->
-                    cb.equal(cb.lower(root.get("breed")), searchParam.getBreed().toLowerCase()));
+                    cb.equal(root.get("breedLower"), searchParam.getBreed().toLowerCase()));
         }
         if (StringUtils.isNotBlank(searchParam.getSupplier())) {
+            // A subquery, so the supplier is found by its name index and its dogs by the supplier_id foreign key index
             spec = spec.and((root, cq, cb) -> {
-                Join<Object, Object> supplierJoin = root.join("supplier", JoinType.LEFT);
-                return cb.equal(cb.lower(supplierJoin.get("supplierName")), searchParam.getSupplier().toLowerCase());
+                Subquery<Integer> supplierIds = cq.subquery(Integer.class);
+                Root<Supplier> supplier = supplierIds.from(Supplier.class);
+                supplierIds.select(supplier.get("id"))
+                        .where(cb.equal(supplier.get("supplierNameLower"), searchParam.getSupplier().toLowerCase()));
+                return root.get("supplier").get("id").in(supplierIds);
             });
         }
-
-        Pageable pageable = PageRequest.of(searchParam.getPageNum(), searchParam.getPageSize(), Sort.by(Sort.Direction.ASC, "id"));
-
-        Page<Dog> dbList = dogRepository.findAll(spec, pageable);
-        List<DogDTO> dtoList = dogMapper.toDtoList(dbList.getContent());
-        if (dtoList.isEmpty()) {
-            throw new ResourceNotFoundException(messageSource.getMessage("records.not.found", null, LocaleContextHolder.getLocale()));
-        }
-        return dtoList;
+        return spec;
     }
 }
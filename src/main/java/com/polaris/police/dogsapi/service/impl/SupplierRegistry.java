@@ -0,0 +1,84 @@
+package com.polaris.police.dogsapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.polaris.police.dogsapi.model.db.entity.Supplier;
+import com.polaris.police.dogsapi.model.db.repository.SupplierRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the supplier master data.
+ * <p>
+ * The supplier table is small and only changes through the master data script, so all rows are loaded once at
+ * startup into an immutable map. Writes resolve suppliers from this map and attach the detached instance to the
+ * dog, which keeps the SELECT off the write path. A refresh builds a new map and swaps it in a single volatile write,
+ * so readers always see a complete snapshot.
+ * <p>
+ * Ids that do not exist are remembered for a short time, so repeated requests with an unknown supplier do not reach
+ * the database on every call.
+ */
+@Component
+@Slf4j
+public class SupplierRegistry {
+
+    private static final Duration UNKNOWN_ID_EXPIRY = Duration.ofSeconds(30);
+    // Ids come from request bodies, so the number of remembered misses is bounded
+    private static final long MAXIMUM_UNKNOWN_IDS = 1000;
+
+    private final SupplierRepository supplierRepository;
+    private final Cache<Integer, Boolean> unknownIds = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_UNKNOWN_IDS)
+            .expireAfterWrite(UNKNOWN_ID_EXPIRY)
+            .build();
+    private volatile Map<Integer, Supplier> suppliers = Map.of();
+
+    public SupplierRegistry(SupplierRepository supplierRepository) {
+        this.supplierRepository = supplierRepository;
+    }
+
+    /**
+     * Reload all suppliers from the database
+     */
+    @PostConstruct
+    public void refresh() {
+        Map<Integer, Supplier> loaded = supplierRepository.findAll()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(Supplier::getId, Function.identity()));
+        suppliers = loaded;
+        unknownIds.invalidateAll();
+        log.debug("Loaded {} suppliers", loaded.size());
+    }
+
+    /**
+     * Find supplier by ID. A supplier added to the database after the last refresh is picked up on first use, or
+     * within 30 seconds if its id was looked up before it was added.
+     *
+     * @param id - Supplier ID
+     * @return supplier, or empty if it does not exist
+     */
+    public Optional<Supplier> findById(Integer id) {
+        Supplier supplier = suppliers.get(id);
+        if (supplier != null) {
+            return Optional.of(supplier);
+        }
+        if (unknownIds.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+
+        Optional<Supplier> optSupplier = supplierRepository.findById(id);
+        if (optSupplier.isPresent()) {
+            log.debug("Supplier id {} not in registry, reloading", id);
+            refresh();
+        } else {
+            unknownIds.put(id, Boolean.TRUE);
+        }
+        return optSupplier;
+    }
+}
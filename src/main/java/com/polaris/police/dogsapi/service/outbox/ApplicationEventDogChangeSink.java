@@ -0,0 +1,24 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Publishes each change as a {@link DogChangedEvent} application event, so in-process consumers only need an
+ * {@code @EventListener} method.
+ */
+@Component
+public class ApplicationEventDogChangeSink implements DogChangeSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ApplicationEventDogChangeSink(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<DogChangedEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
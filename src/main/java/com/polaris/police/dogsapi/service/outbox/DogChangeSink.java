@@ -0,0 +1,18 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import java.util.List;
+
+/**
+ * Receives committed dog changes from the outbox dispatcher. Every sink bean gets every change.
+ */
+public interface DogChangeSink {
+
+    /**
+     * Deliver a batch of changes. Called on the dispatcher thread, never on a request thread, with batches in outbox
+     * order. Throwing leaves the batch in the outbox and it is delivered again on the next poll, so delivery is at
+     * least once.
+     *
+     * @param events - Changes in the order they were made
+     */
+    void publish(List<DogChangedEvent> events);
+}
@@ -0,0 +1,25 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import java.time.LocalDateTime;
+
+/**
+ * A committed change of a dog record.
+ *
+ * @param id - Outbox id, increasing in the order the changes were made
+ * @param changeType - Kind of change
+ * @param dogId - Primary key of the dog
+ * @param dogVersion - Version of the dog after the change, lets consumers skip changes delivered twice
+ * @param dog - Dog record after the change
+ * @param occurredAt - Time of the change
+ */
+public record DogChangedEvent(
+        long id,
+        DogChangeType changeType,
+        Long dogId,
+        long dogVersion,
+        DogDTO dog,
+        LocalDateTime occurredAt
+) {
+}
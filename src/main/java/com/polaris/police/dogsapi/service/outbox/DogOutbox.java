@@ -0,0 +1,67 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polaris.police.dogsapi.model.db.entity.DogOutboxEntry;
+import com.polaris.police.dogsapi.model.db.repository.DogOutboxRepository;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records dog changes in the outbox table. Must be called in the transaction that makes the change, so a change
+ * is recorded if and only if it is committed. Delivery is left to {@link DogOutboxDispatcher}.
+ */
+@Component
+public class DogOutbox {
+
+    private final DogOutboxRepository dogOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public DogOutbox(DogOutboxRepository dogOutboxRepository, ObjectMapper objectMapper) {
+        this.dogOutboxRepository = dogOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Record a change of one dog
+     *
+     * @param changeType - Kind of change
+     * @param dog - Dog record after the change, with its new version
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DogChangeType changeType, DogDTO dog) {
+        dogOutboxRepository.save(toEntry(changeType, dog, LocalDateTime.now()));
+    }
+
+    /**
+     * Record the same kind of change for several dogs, in list order
+     *
+     * @param changeType - Kind of change
+     * @param dogs - Dog records after the change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(DogChangeType changeType, List<DogDTO> dogs) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        dogOutboxRepository.saveAll(dogs.stream().map(dog -> toEntry(changeType, dog, createdAt)).toList());
+    }
+
+    private DogOutboxEntry toEntry(DogChangeType changeType, DogDTO dog, LocalDateTime createdAt) {
+        try {
+            return DogOutboxEntry.builder()
+                    .dogId(dog.getId())
+                    .dogVersion(dog.getVersion())
+                    .changeType(changeType)
+                    .payload(objectMapper.writeValueAsString(dog))
+                    .createdAt(createdAt)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.polaris.police.dogsapi.config.DogOutboxProperties;
+import com.polaris.police.dogsapi.model.db.entity.DogOutboxEntry;
+import com.polaris.police.dogsapi.model.db.repository.DogOutboxRepository;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers recorded dog changes to every {@link DogChangeSink}. Polled by a single scheduler thread per instance
+ * (see OutboxConfig), so request threads never wait on a sink.
+ * <p>
+ * Batches are locked with SKIP LOCKED, so instances running side by side deliver different changes. The oldest
+ * changes by outbox id are taken first, so frequent changes of some dogs cannot hold back the others. The other
+ * pending changes of the dogs in the batch are locked with it and each dog's changes are delivered in version order.
+ * A dog whose earlier change is held by another instance is left for a later batch, so the changes of one dog are
+ * delivered in the order they were made. Changes of different dogs may be delivered in any order.
+ */
+@Component
+@Slf4j
+public class DogOutboxDispatcher {
+
+    private static final Comparator<DogOutboxEntry> DELIVERY_ORDER =
+            Comparator.comparing(DogOutboxEntry::getDogId).thenComparingLong(DogOutboxEntry::getDogVersion);
+
+    private final DogOutboxRepository dogOutboxRepository;
+    private final List<DogChangeSink> sinks;
+    private final ObjectReader payloadReader;
+    private final int batchSize;
+
+    public DogOutboxDispatcher(DogOutboxRepository dogOutboxRepository, List<DogChangeSink> sinks,
+                               ObjectMapper objectMapper, DogOutboxProperties dogOutboxProperties) {
+        this.dogOutboxRepository = dogOutboxRepository;
+        this.sinks = sinks;
+        // Payloads are written by this application, so read-only properties such as id and supplierName are read too
+        this.payloadReader = objectMapper.copy()
+                .setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public JsonProperty.Access findPropertyAccess(Annotated annotated) {
+                        return JsonProperty.Access.AUTO;
+                    }
+                })
+                .readerFor(DogDTO.class);
+        this.batchSize = dogOutboxProperties.batchSize();
+    }
+
+    /**
+     * Deliver the next pending changes and remove them from the outbox. When a sink fails the transaction is
+     * rolled back and the same batch is delivered on the next call.
+     *
+     * @return number of delivered changes, at least the batch size when more may be pending
+     */
+    @Transactional
+    public int dispatch() {
+        List<DogOutboxEntry> entries = new ArrayList<>(dogOutboxRepository.lockNextBatch(batchSize));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Set<Long> dogIds = entries.stream().map(DogOutboxEntry::getDogId).collect(Collectors.toSet());
+        entries.addAll(dogOutboxRepository.lockOtherChanges(dogIds,
+                entries.stream().map(DogOutboxEntry::getId).toList()));
+        entries.sort(DELIVERY_ORDER);
+
+        Set<Long> waiting = dogOutboxRepository.findDogsWithEarlierChanges(dogIds,
+                entries.stream().map(DogOutboxEntry::getId).toList());
+        if (!waiting.isEmpty()) {
+            log.debug("Dogs {} wait for earlier changes held by another dispatcher", waiting);
+            entries = entries.stream().filter(entry -> !waiting.contains(entry.getDogId())).toList();
+            if (entries.isEmpty()) {
+                return 0;
+            }
+        }
+
+        List<DogChangedEvent> events = entries.stream().map(this::toEvent).toList();
+        for (DogChangeSink sink : sinks) {
+            sink.publish(events);
+        }
+        dogOutboxRepository.deleteAllInBatch(entries);
+        log.debug("Delivered {} dog changes up to outbox id={}", events.size(), events.get(events.size() - 1).id());
+        return events.size();
+    }
+
+    private DogChangedEvent toEvent(DogOutboxEntry entry) {
+        try {
+            DogDTO dog = payloadReader.readValue(entry.getPayload());
+            dog.setVersion(entry.getDogVersion());
+            return new DogChangedEvent(entry.getId(), entry.getChangeType(), entry.getDogId(), entry.getDogVersion(),
+                    dog, entry.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
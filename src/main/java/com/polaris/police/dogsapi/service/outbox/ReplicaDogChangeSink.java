@@ -0,0 +1,95 @@
+package com.polaris.police.dogsapi.service.outbox;
+
+import com.polaris.police.dogsapi.config.CacheConfig;
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.repository.DogRepositoryCustom;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.service.impl.DogListGeneration;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import java.util.List;
+
+/**
+ * Applies committed dog changes to a read replica that is kept in sync by the application. Runs before the other
+ * sinks, so consumers of a change can already read it from the replica.
+ * <p>
+ * A row is only overwritten by a higher version, so changes delivered again are skipped. Afterwards the cached
+ * records of the changed dogs and the dog list query results are evicted and the dog list generation, which also keys
+ * the facets, is advanced, because reads that missed the caches while the replica lagged may have cached the previous
+ * state.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ReplicaDogChangeSink implements DogChangeSink {
+
+    private static final String UPSERT = """
+            MERGE INTO dogs d
+            USING (VALUES (1)) s(x) ON d.id = :id
+            WHEN MATCHED AND d.version < :version THEN UPDATE SET
+                name = :name, breed = :breed, badge_id = :badgeId, gender = :gender, birth_date = :birthDate,
+                date_acquired = :dateAcquired, current_status = :currentStatus, leaving_date = :leavingDate,
+                leaving_reason = :leavingReason, kennelling_characteristic = :kennellingCharacteristic,
+                deleted = :deleted, supplier_id = :supplierId, version = :version
+            WHEN NOT MATCHED THEN INSERT
+                (id, name, breed, badge_id, gender, birth_date, date_acquired, current_status, leaving_date,
+                leaving_reason, kennelling_characteristic, deleted, supplier_id, version)
+            VALUES
+                (:id, :name, :breed, :badgeId, :gender, :birthDate, :dateAcquired, :currentStatus, :leavingDate,
+                :leavingReason, :kennellingCharacteristic, :deleted, :supplierId, :version)
+            """;
+
+    private final NamedParameterJdbcTemplate replicaJdbcTemplate;
+    private final CacheManager cacheManager;
+    private final SessionFactory sessionFactory;
+    private final DogListGeneration dogListGeneration;
+
+    public ReplicaDogChangeSink(NamedParameterJdbcTemplate replicaJdbcTemplate, CacheManager cacheManager,
+                                SessionFactory sessionFactory, DogListGeneration dogListGeneration) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.sessionFactory = sessionFactory;
+        this.dogListGeneration = dogListGeneration;
+    }
+
+    @Override
+    public void publish(List<DogChangedEvent> events) {
+        replicaJdbcTemplate.batchUpdate(UPSERT, events.stream().map(ReplicaDogChangeSink::toParameters)
+                .toArray(SqlParameterSource[]::new));
+
+        Cache dogs = cacheManager.getCache(CacheConfig.DOGS_CACHE);
+        events.forEach(event -> {
+            dogs.evict(event.dogId());
+            sessionFactory.getCache().evictEntityData(Dog.class, event.dogId());
+        });
+        sessionFactory.getCache().evictQueryRegion(DogRepositoryCustom.LIST_CACHE_REGION);
+        dogListGeneration.advance();
+        log.debug("Applied {} dog changes to the replica", events.size());
+    }
+
+    private static SqlParameterSource toParameters(DogChangedEvent event) {
+        DogDTO dog = event.dog();
+        return new MapSqlParameterSource()
+                .addValue("id", event.dogId())
+                .addValue("version", event.dogVersion())
+                .addValue("name", dog.getName())
+                .addValue("breed", dog.getBreed())
+                .addValue("badgeId", dog.getBadgeId())
+                .addValue("gender", dog.getGender() == null ? null : dog.getGender().name())
+                .addValue("birthDate", dog.getBirthDate())
+                .addValue("dateAcquired", dog.getDateAcquired())
+                .addValue("currentStatus", dog.getCurrentStatus() == null ? null : dog.getCurrentStatus().name())
+                .addValue("leavingDate", dog.getLeavingDate())
+                .addValue("leavingReason", dog.getLeavingReason() == null ? null : dog.getLeavingReason().name())
+                .addValue("kennellingCharacteristic", dog.getKennellingCharacteristic())
+                .addValue("deleted", event.changeType() == DogChangeType.DELETED)
+                .addValue("supplierId", dog.getSupplierId());
+    }
+}
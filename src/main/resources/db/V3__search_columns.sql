@@ -0,0 +1,9 @@
+-- Lower-case copies of the searchable columns, maintained by the database on every insert and update,
+-- so that case-insensitive search is an indexed equality lookup.
+ALTER TABLE dogs ADD COLUMN name_lower VARCHAR(200) GENERATED ALWAYS AS (LOWER(name));
+ALTER TABLE dogs ADD COLUMN breed_lower VARCHAR(200) GENERATED ALWAYS AS (LOWER(breed));
+ALTER TABLE supplier ADD COLUMN supplier_name_lower VARCHAR(50) GENERATED ALWAYS AS (LOWER(supplier_name));
+
+CREATE INDEX idx_dogs_name_lower ON dogs (name_lower);
+CREATE INDEX idx_dogs_breed_lower ON dogs (breed_lower);
+CREATE INDEX idx_supplier_name_lower ON supplier (supplier_name_lower);
@@ -0,0 +1,5 @@
+-- Dog ids are allocated by Hibernate from this sequence in blocks of 50 (pooled optimizer), which lets inserts
+-- be sent in JDBC batches. A returned value is the upper bound of its block, so the sequence starts 50 above the
+-- current maximum id. Rows inserted manually must supply an explicit id.
+CREATE SEQUENCE dogs_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE dogs_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM dogs);
@@ -0,0 +1,13 @@
+-- Soft delete flag is always set from now on, so active rows are selected with the single sargable predicate
+-- "deleted = FALSE" instead of "deleted = FALSE OR deleted IS NULL".
+UPDATE dogs SET deleted = FALSE WHERE deleted IS NULL;
+ALTER TABLE dogs ALTER COLUMN deleted SET NOT NULL;
+
+-- H2 has no partial indexes, so the flag is the trailing column of the search indexes and the leading column of
+-- an index for the unfiltered list, which is read in id order. On PostgreSQL these would be partial indexes
+-- WHERE deleted = FALSE.
+DROP INDEX idx_dogs_name_lower;
+DROP INDEX idx_dogs_breed_lower;
+CREATE INDEX idx_dogs_name_lower ON dogs (name_lower, deleted);
+CREATE INDEX idx_dogs_breed_lower ON dogs (breed_lower, deleted);
+CREATE INDEX idx_dogs_deleted_id ON dogs (deleted, id);
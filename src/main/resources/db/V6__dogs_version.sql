@@ -0,0 +1,2 @@
+-- Optimistic locking version, also used as the ETag of the dog resource
+ALTER TABLE dogs ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
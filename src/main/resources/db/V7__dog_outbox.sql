@@ -0,0 +1,12 @@
+-- Changes to dogs, written in the same transaction as the change and delivered in id order by the outbox
+-- dispatcher. Delivered rows are deleted. Ids are allocated in blocks of 50 like dogs_seq, so batch inserts stay batched.
+CREATE SEQUENCE dog_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE dog_outbox (
+    id BIGINT PRIMARY KEY,
+    dog_id BIGINT NOT NULL,
+    dog_version BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at DATETIME NOT NULL
+);
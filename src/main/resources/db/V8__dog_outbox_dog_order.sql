@@ -0,0 +1,3 @@
+-- The outbox is delivered in dog id and version order, so the changes of one dog are delivered in the order they
+-- were made even when several instances allocate outbox ids from their own blocks.
+CREATE INDEX idx_dog_outbox_dog_version ON dog_outbox (dog_id, dog_version);
@@ -0,0 +1,28 @@
+package com.polaris.police.dogsapi;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every SQL statement prepared by Hibernate. Enable it on a test context with
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ */
+public class SqlStatementCollector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> getStatements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -6,6 +6,9 @@ import com.polaris.police.dogsapi.model.enums.DogStatus;
 import com.polaris.police.dogsapi.model.enums.Gender;
 import com.polaris.police.dogsapi.model.enums.LeavingReason;
 import com.polaris.police.dogsapi.model.request.DogDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import java.time.LocalDate;
@@ -15,6 +18,15 @@ import java.time.LocalDate;
  */
 public class TestUtils {
 
+    /**
+     * Clear the service caches and the Hibernate second-level and query caches. Fixtures are loaded with plain SQL,
+     * which the caches do not see.
+     */
+    public static void clearCaches(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
     public static String getDogDTO1() {
         return """
                 {
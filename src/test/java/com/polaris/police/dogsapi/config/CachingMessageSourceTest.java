@@ -0,0 +1,116 @@
+package com.polaris.police.dogsapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.StaticMessageSource;
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingMessageSourceTest {
+
+    private final StaticMessageSource delegate = spy(new StaticMessageSource());
+    private final CachingMessageSource messageSource = new CachingMessageSource(delegate);
+
+    private static final Locale[] LOCALES =
+            {Locale.UK, Locale.GERMANY, Locale.forLanguageTag("hi-IN"), Locale.forLanguageTag("ar-EG-u-nu-arab")};
+
+    CachingMessageSourceTest() {
+        for (Locale locale : LOCALES) {
+            delegate.addMessage("error.invalid.enum", locale, "Invalid value {0} for field {1}. Allowed values are: {2}");
+            delegate.addMessage("record.quoted", locale, "Record ''{0}'' does not exist");
+            delegate.addMessage("record.not.exist", locale, "Record {0} does not exist");
+        }
+        delegate.addMessage("records.not.found", Locale.UK, "Dog records not found");
+        delegate.addMessage("record.not.exist", Locale.GERMANY, "Datensatz {0} existiert nicht");
+    }
+
+    @Test
+    @DisplayName("Caching message source - Patterns are resolved once per code and locale")
+    void testTemplatesAreCached() {
+        assertEquals("Dog records not found", messageSource.getMessage("records.not.found", null, Locale.UK));
+        assertEquals("Dog records not found", messageSource.getMessage("records.not.found", null, Locale.UK));
+        assertEquals("Record 7 does not exist", messageSource.getMessage("record.not.exist", new Object[]{7L}, Locale.UK));
+        assertEquals("Record 8 does not exist", messageSource.getMessage("record.not.exist", new Object[]{8L}, Locale.UK));
+        assertEquals("Datensatz 9 existiert nicht", messageSource.getMessage("record.not.exist", new Object[]{9L}, Locale.GERMANY));
+
+        verify(delegate, times(1)).getMessage(eq("records.not.found"), isNull(), isNull(), eq(Locale.UK));
+        verify(delegate, times(1)).getMessage(eq("record.not.exist"), isNull(), isNull(), eq(Locale.UK));
+        verify(delegate, times(1)).getMessage(eq("record.not.exist"), isNull(), isNull(), eq(Locale.GERMANY));
+    }
+
+    @Test
+    @DisplayName("Caching message source - Messages are formatted like MessageFormat")
+    void testFormatMatchesDelegate() {
+        Object[][] arguments = {
+                {"1000", "name", "a, b"},
+                {"1234567", 12.5, "-3000"},
+                {"max", (short) 7, 1234.5f},
+                {"INVALID", null},
+                {}
+        };
+        for (Object[] args : arguments) {
+            for (Locale locale : LOCALES) {
+                for (String code : new String[]{"record.not.exist", "error.invalid.enum", "record.quoted"}) {
+                    assertEquals(delegate.getMessage(code, args, locale), messageSource.getMessage(code, args, locale),
+                            code + " " + locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Caching message source - Record ids are formatted from the template")
+    void testRecordIds() {
+        Object[] ids = {1L, 7, 999L, 0L};
+        String[] expected = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            expected[i] = delegate.getMessage("record.not.exist", new Object[]{ids[i]}, Locale.UK);
+        }
+        clearInvocations(delegate);
+
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(expected[i], messageSource.getMessage("record.not.exist", new Object[]{ids[i]}, Locale.UK));
+        }
+        assertEquals("Record 1000 does not exist", messageSource.getMessage("record.not.exist", new Object[]{1000L}, Locale.UK));
+        assertEquals("Record -3 does not exist", messageSource.getMessage("record.not.exist", new Object[]{-3}, Locale.UK));
+
+        verify(delegate, times(1)).getMessage(eq("record.not.exist"), isNull(), isNull(), eq(Locale.UK));
+        verify(delegate, never()).getMessage(eq("record.not.exist"), any(Object[].class), eq(Locale.UK));
+    }
+
+    @Test
+    @DisplayName("Caching message source - Templates expire with the cache duration")
+    void testCacheDuration() {
+        CachingMessageSource reloading = new CachingMessageSource(delegate, Duration.ZERO);
+        assertEquals("Dog records not found", reloading.getMessage("records.not.found", null, Locale.UK));
+
+        delegate.addMessage("records.not.found", Locale.UK, "No dog records");
+
+        assertEquals("No dog records", reloading.getMessage("records.not.found", null, Locale.UK));
+        verify(delegate, times(2)).getMessage(eq("records.not.found"), isNull(), isNull(), eq(Locale.UK));
+    }
+
+    @Test
+    @DisplayName("Caching message source - Missing codes and resolvables are left to the delegate")
+    void testDelegateFallback() {
+        assertThrows(NoSuchMessageException.class, () -> messageSource.getMessage("missing", null, Locale.UK));
+        assertEquals("Fallback", messageSource.getMessage("missing", null, "Fallback", Locale.UK));
+        assertEquals("Dog records not found", messageSource.getMessage(
+                new DefaultMessageSourceResolvable(new String[]{"missing", "records.not.found"}), Locale.UK));
+
+        verify(delegate, times(2)).getMessage(eq("missing"), isNull(), isNull(), eq(Locale.UK));
+        verify(delegate).getMessage(any(DefaultMessageSourceResolvable.class), eq(Locale.UK));
+    }
+}
@@ -0,0 +1,46 @@
+package com.polaris.police.dogsapi.config;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassPathMigrationProviderTest {
+
+    private final ClassPathMigrationProvider provider = new ClassPathMigrationProvider(
+            new Location[]{new Location("classpath:db")}, getClass().getClassLoader(), StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Class path migrations - Lists the versioned scripts of the location")
+    void testGetResources() {
+        List<String> scripts = provider.getResources("V", new String[]{".sql"}).stream()
+                .map(LoadableResource::getRelativePath)
+                .sorted()
+                .toList();
+
+        assertEquals(8, scripts.size());
+        assertEquals("V1__initial_script.sql", scripts.get(0));
+        assertTrue(scripts.stream().allMatch(script -> script.matches("V\\d+__\\w+\\.sql")));
+        assertTrue(provider.getResources("R", new String[]{".sql"}).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Class path migrations - Reads a script by its relative path")
+    void testGetResource() throws IOException {
+        LoadableResource script = provider.getResource("V1__initial_script.sql");
+
+        assertNotNull(script);
+        assertEquals("db/V1__initial_script.sql", script.getAbsolutePath());
+        try (Reader reader = script.read()) {
+            assertTrue(new BufferedReader(reader).lines().anyMatch(line -> !line.isBlank()));
+        }
+        assertNull(provider.getResource("V0__missing.sql"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.polaris.police.dogsapi.config;
+
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedDogCacheTest {
+
+    private final Cache dogs = new CacheConfig()
+            .cacheManager(new DogCacheProperties(100, Duration.ofMinutes(10)))
+            .getCache(CacheConfig.DOGS_CACHE);
+
+    @Test
+    @DisplayName("Versioned dog cache - A late put of an older version keeps the newer record")
+    void testPut_OlderVersion() {
+        DogDTO updated = dog(2L, "Rex");
+        DogDTO read = dog(1L, "Max");
+
+        dogs.put(1L, updated);
+        dogs.put(1L, read);
+
+        assertInstanceOf(VersionedDogCache.class, dogs);
+        assertSame(updated, dogs.get(1L, DogDTO.class));
+    }
+
+    @Test
+    @DisplayName("Versioned dog cache - A newer or equal version replaces the cached record")
+    void testPut_NewerVersion() {
+        DogDTO read = dog(1L, "Max");
+        DogDTO sameVersion = dog(1L, "Max");
+        DogDTO updated = dog(2L, "Rex");
+
+        dogs.put(1L, read);
+        dogs.put(1L, sameVersion);
+        assertSame(sameVersion, dogs.get(1L, DogDTO.class));
+
+        dogs.put(1L, updated);
+        assertSame(updated, dogs.get(1L, DogDTO.class));
+        assertNull(dogs.get(2L));
+    }
+
+    private static DogDTO dog(Long version, String name) {
+        return DogDTO.builder().id(1L).name(name).version(version).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.SqlStatementCollector;
+import com.polaris.police.dogsapi.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the batch registration endpoint of {@link DogController}.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.polaris.police.dogsapi.SqlStatementCollector")
+@AutoConfigureMockMvc
+class DogBatchIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Happy path - Batch is inserted with JDBC batching
+     */
+    @Test
+    @DisplayName("Integration test - Dog batch should be saved in JDBC batches")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql"})
+    void shouldSaveDogBatch() throws Exception {
+        String batch = "[" + String.join(",", Collections.nCopies(60, TestUtils.getDogDTO1())) + ","
+                + String.join(",", Collections.nCopies(60, TestUtils.getDogDTO4())) + "]";
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/dogs/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(batch))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(120))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].supplierName").value("breeder"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[119].supplierName").value("kennels"));
+
+        // Without batching every row prepares its own INSERT. Batched rows reuse one prepared statement,
+        // and ids come from the sequence once per allocation block of 50.
+        long inserts = SqlStatementCollector.getStatements().stream().filter(s -> s.startsWith("insert into dogs")).count();
+        long sequenceCalls = SqlStatementCollector.getStatements().stream().filter(s -> s.contains("dogs_seq")).count();
+        assertEquals(1, inserts);
+        assertTrue(sequenceCalls <= 4, "sequence calls: " + sequenceCalls);
+        assertTrue(SqlStatementCollector.getStatements().stream().noneMatch(s -> s.contains("from supplier")));
+
+        long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dogs", Long.class);
+        assertEquals(120, count);
+
+        // One outbox row per dog, written in the same JDBC batches
+        long outboxInserts = SqlStatementCollector.getStatements().stream().filter(s -> s.startsWith("insert into dog_outbox")).count();
+        long outboxCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dog_outbox", Long.class);
+        assertEquals(1, outboxInserts);
+        assertEquals(120, outboxCount);
+    }
+
+    /**
+     * Negative scenario - Nothing is saved when one supplier does not exist
+     */
+    @Test
+    @DisplayName("Integration test - Dog batch should not be saved")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql"})
+    void shouldNotSaveDogBatch() throws Exception {
+        String batch = "[" + TestUtils.getDogDTO1() + "," + TestUtils.getDogDTO2() + "]";
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/dogs/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(batch))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dogs", Long.class);
+        assertEquals(0, count);
+        long outboxCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dog_outbox", Long.class);
+        assertEquals(0, outboxCount);
+    }
+}
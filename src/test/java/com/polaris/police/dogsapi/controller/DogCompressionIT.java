@@ -0,0 +1,96 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polaris.police.dogsapi.controller.converter.DogProtobufHttpMessageConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Response compression is applied by the servlet container, so these tests run against a real server.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+class DogCompressionIT {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Integration test - Large responses should be gzip compressed")
+    void shouldCompressLargeResponses() throws Exception {
+        HttpResponse<byte[]> response = get("/api/dogs?pageSize=100");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        byte[] body = gunzip(response.body());
+        assertTrue(response.body().length * 3 < body.length,
+                () -> response.body().length + " compressed bytes for " + body.length + " bytes");
+        JsonNode dogs = objectMapper.readTree(body);
+        assertEquals(37, dogs.size());
+    }
+
+    @Test
+    @DisplayName("Integration test - JSON responses below the size threshold should not be compressed")
+    void shouldNotCompressSmallJsonResponses() throws Exception {
+        for (String path : new String[]{"/api/dogs?pageSize=1", "/api/dogs/999", "/api/dogs/facets?breed=labrador"}) {
+            HttpResponse<byte[]> small = get(path);
+            assertTrue(small.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty(), path);
+            assertEquals(small.body().length, small.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1), path);
+        }
+        assertEquals(404, get("/api/dogs/999").statusCode());
+    }
+
+    @Test
+    @DisplayName("Integration test - Responses below the size threshold should not be compressed")
+    void shouldNotCompressSmallResponses() throws Exception {
+        // Protobuf bodies have a known length, so the container can apply the threshold
+        HttpResponse<byte[]> small = get("/api/dogs?pageSize=1", DogProtobufHttpMessageConverter.PROTOBUF_VALUE);
+        assertEquals(200, small.statusCode());
+        assertTrue(small.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertEquals(small.body().length, small.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1));
+
+        HttpResponse<byte[]> large = get("/api/dogs?pageSize=100", DogProtobufHttpMessageConverter.PROTOBUF_VALUE);
+        assertEquals("gzip", large.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        return get(path, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -7,7 +7,12 @@ import com.polaris.police.dogsapi.dto.TestDogDTO;
 import com.polaris.police.dogsapi.model.enums.DogStatus;
 import com.polaris.police.dogsapi.model.enums.Gender;
 import com.polaris.police.dogsapi.model.enums.LeavingReason;
+import com.polaris.police.dogsapi.config.CacheConfig;
+import com.polaris.police.dogsapi.service.DogService;
+import com.polaris.police.dogsapi.service.impl.DogFullTextIndex;
+import jakarta.persistence.EntityManagerFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,6 +22,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
@@ -24,13 +32,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.MultiValueMap;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -50,6 +62,29 @@ class DogControllerIT {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DogFullTextIndex dogFullTextIndex;
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Test data is loaded with plain SQL, which bypasses cache invalidation in the service layer.
+     */
+    @BeforeEach
+    void clearCaches() {
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+    }
+
     /**
      * Happy path - Save Dog record
      */
@@ -131,6 +166,114 @@ class DogControllerIT {
         assertEquals(Boolean.TRUE, deleted);
     }
 
+    /**
+     * Happy path - Dog record is served from the cache and evicted on delete
+     */
+    @Test
+    @DisplayName("Integration test - Dog object should be cached on read and evicted on delete")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+    void shouldCacheDogRecord() throws Exception {
+        Cache cache = cacheManager.getCache(CacheConfig.DOGS_CACHE);
+        assertNotNull(cache);
+        assertNull(cache.get(1L));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertNotNull(cache.get(1L));
+
+        // Changed behind the service, so the cached copy is still returned
+        jdbcTemplate.update("UPDATE dogs SET name = 'Rocky' WHERE id = ?", 1);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Rex"));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.delete("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        assertNull(cache.get(1L));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    /**
+     * Happy path - Record version is sent as the ETag and a matching If-None-Match is answered with 304
+     */
+    @Test
+    @DisplayName("Integration test - Dog object should be revalidated with its ETag")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+    void shouldRevalidateDogRecordWithETag() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").doesNotExist());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put("/api/dogs/1")
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(TestUtils.getDogDTO4()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.badgeId").value("K9-100"));
+    }
+
+    /**
+     * Negative path - Update and delete with a stale If-Match are rejected
+     */
+    @Test
+    @DisplayName("Integration test - Dog object should not be changed with a stale version")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+    void shouldRejectStaleVersion() throws Exception {
+        jdbcTemplate.update("UPDATE dogs SET version = 2 WHERE id = ?", 1);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put("/api/dogs/1")
+                                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(TestUtils.getDogDTO4()))
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value("Record 1 has been modified. Fetch the latest version and retry"));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.delete("/api/dogs/1")
+                                .header(HttpHeaders.IF_MATCH, "W/\"2\""))
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.delete("/api/dogs/1")
+                                .header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT badge_id, deleted, version FROM dogs WHERE id = ?", 1);
+        assertEquals("K9-001", row.get("BADGE_ID"));
+        assertEquals(Boolean.TRUE, row.get("DELETED"));
+        assertEquals(3L, row.get("VERSION"));
+    }
+
     /**
      * Happy path - Parameter Search Dog record (with default parameter values)
      */
@@ -212,6 +355,228 @@ class DogControllerIT {
         assertEquals(reasonCount, categories.get("reason"));
     }
 
+    /**
+     * Happy path - Keyset pagination walks all active records without gaps or duplicates
+     */
+    @Test
+    @DisplayName("Integration test - Dog records should be scrolled with a cursor")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldScrollDogRecordsWithCursor() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(
+                            MockMvcRequestBuilders.get("/api/dogs")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .param("pageSize", "10")
+                                    .param("after", cursor))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn();
+
+            List<TestDogDTO> list = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<TestDogDTO>>() {});
+            list.forEach(d -> ids.add(d.getId()));
+            cursor = result.getResponse().getHeader(DogController.NEXT_CURSOR_HEADER);
+            pages++;
+        }
+
+        assertEquals(4, pages);
+        assertEquals(37, ids.size());
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+    }
+
+    /**
+     * Happy path - Free text search with partial and misspelled words
+     */
+    @Test
+    @DisplayName("Integration test - Dog records should be found by free text")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldSearchDogRecordsByText() throws Exception {
+        // Test data is loaded with plain SQL, which bypasses the index updates in the service layer
+        dogFullTextIndex.rebuild();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/search")
+                                .param("q", "Malinoi energetic"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Max"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].supplierName").value("breeder"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].breed").value("Belgian Malinois"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(6));
+
+        // Renamed through the API, so the index is updated without a rebuild
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put("/api/dogs/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(TestUtils.getDogDTO4().replace("\"Rex\"", "\"Zephyr\"")))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/search")
+                                .param("q", "zepyr"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Zephyr"));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/search")
+                                .param("q", " "))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].field").value("q"));
+    }
+
+    /**
+     * Rolled-back writes leave the free text index unchanged
+     */
+    @Test
+    @DisplayName("Integration test - Rolled-back changes should not change free text search results")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldNotIndexRolledBackChanges() throws Exception {
+        dogFullTextIndex.rebuild();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dogService.updateDog(2L, dogService.getDog(2L).toBuilder().name("Zephyr").build(), null);
+            dogService.deleteDog(1L, null);
+            status.setRollbackOnly();
+        });
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/search")
+                                .param("q", "zephyr"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/search")
+                                .param("q", "rex"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", hasItem(1)));
+    }
+
+    /**
+     * Happy path - Facet counts respect the search filters and are refreshed after a write
+     */
+    @Test
+    @DisplayName("Integration test - Dog records should be counted by facet")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldCountDogRecordsByFacet() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/facets")
+                                .param("breed", "belgian malinois"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.breed.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.breed[0].value").value("Belgian Malinois"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.breed[0].count").value(6))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus.length()").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus[0].value").value("IN_SERVICE"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus[0].count").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.gender[0].value").value("MALE"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.gender[0].count").value(5))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier[0].value").value("breeder"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier[0].count").value(5))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier[1].value").value("kennels"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier[1].count").value(1));
+
+        // Deleting Max (Belgian Malinois, IN_TRAINING) clears the cached counts
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/3"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/facets")
+                                .param("breed", "belgian malinois"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.breed[0].count").value(5))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus.length()").value(3));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/facets")
+                                .param("breed", "poodle"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.breed").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier").isEmpty());
+    }
+
+    /**
+     * Happy path - Export streams every matching active record as NDJSON
+     */
+    @Test
+    @DisplayName("Integration test - Dog records should be exported as NDJSON")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldExportDogRecordsAsNdjson() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/export")
+                                .param("supplier", "BREEDER"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("application/x-ndjson"))
+                .andExpect(MockMvcResultMatchers.header().string("Content-Disposition", "attachment; filename=\"dogs.ndjson\""))
+                .andReturn();
+
+        List<TestDogDTO> list = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            list.add(objectMapper.readValue(line, TestDogDTO.class));
+        }
+        Integer expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dogs WHERE supplier_id = 1 AND deleted = FALSE", Integer.class);
+
+        assertEquals(expected, list.size());
+        assertTrue(list.stream().allMatch(d -> "breeder".equals(d.getSupplierName())));
+        assertEquals(list.stream().map(TestDogDTO::getId).sorted().toList(), list.stream().map(TestDogDTO::getId).toList());
+    }
+
+    /**
+     * Happy path - Export streams every active record as CSV with a header row
+     */
+    @Test
+    @DisplayName("Integration test - Dog records should be exported as CSV")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldExportDogRecordsAsCsv() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/export")
+                                .param("format", "CSV"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("text/csv"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\r\n");
+        assertTrue(lines[0].startsWith("id,name,breed,supplierId,supplierName"));
+        assertEquals(37, lines.length - 1);
+        assertTrue(lines[1].startsWith("1,Rex,German Shepherd,1,breeder,K9-001,MALE,2021-05-20,2022-02-15,IN_SERVICE,,TRANSFERRED,"));
+        assertTrue(lines[1].endsWith(",\"Strong, obedient, and alert.\""));
+    }
+
+    /**
+     * Negative scenario - Unknown export format
+     */
+    @Test
+    @DisplayName("Integration test - Unknown export format should be rejected")
+    void shouldRejectUnknownExportFormat() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs/export")
+                                .param("format", "XML"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].field").value("format"));
+    }
+
+    /**
+     * Negative scenario - Invalid cursor
+     */
+    @Test
+    @DisplayName("Integration test - Invalid cursor should be rejected")
+    void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/dogs")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .param("after", "not-a-cursor"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Invalid pagination cursor"));
+    }
+
     /**
      * Negative scenario - Not save dog dto.
      */
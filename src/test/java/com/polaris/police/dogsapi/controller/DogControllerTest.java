@@ -1,14 +1,27 @@
 package com.polaris.police.dogsapi.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.controller.converter.DogProtobufHttpMessageConverter;
 import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.request.validator.PrecompiledValidator;
 import com.polaris.police.dogsapi.service.DogService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +29,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.validation.ValidatorAdapter;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.validation.Validator;
+import java.util.List;
 import java.util.stream.Stream;
 
 @WebMvcTest(DogController.class)
@@ -34,6 +52,10 @@ public class DogControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier("mvcValidator")
+    private Validator mvcValidator;
+
     static Stream<Arguments> validationData() {
         String message = "must be less than or equal to 200 characters";
         String message500 = "must be less than or equal to 500 characters";
@@ -140,4 +162,123 @@ public class DogControllerTest {
                 .andExpect(jsonPath("$.leavingDate").value("2028-10-15"))
                 .andExpect(jsonPath("$.kennellingCharacteristic").value("Strong, obedient, and alert. Excellent tracking ability."));
     }
+
+    @Test
+    @DisplayName("Batch elements should be validated")
+    void shouldFail_WhenBatchElementInvalid() throws Exception {
+        String input = "[" + TestUtils.getDogDTO3() + ","
+                + TestUtils.getDogDTO3().replace("\"Rex\"", "\"" + "a".repeat(201) + "\"") + "]";
+
+        mockMvc.perform(post("/api/dogs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("[1].name"))
+                .andExpect(jsonPath("$.fieldErrors[0].message").value("must be less than or equal to 200 characters"));
+    }
+
+    @Test
+    @DisplayName("Batch element with invalid enum value should be rejected")
+    void shouldFail_WhenBatchElementHasInvalidEnum() throws Exception {
+        String input = "[" + TestUtils.getDogDTO3() + ","
+                + TestUtils.getDogDTO3().replace("\"MALE\"", "\"MAL\"") + "]";
+
+        mockMvc.perform(post("/api/dogs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("[1].gender"))
+                .andExpect(jsonPath("$.fieldErrors[0].message").value("Invalid value MAL for field [1].gender. Allowed values are: MALE, FEMALE"));
+    }
+
+    @Test
+    @DisplayName("Empty batch should be rejected")
+    void shouldFail_WhenBatchEmpty() throws Exception {
+        mockMvc.perform(post("/api/dogs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("dogDTOList"));
+    }
+
+    @Test
+    @DisplayName("Out of range page size should be rejected")
+    void shouldFail_WhenPageSizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/dogs")
+                        .param("pageSize", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("pageSize"))
+                .andExpect(jsonPath("$.fieldErrors[0].message").value("must be less than or equal to 100"));
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match should return 304 without loading the record")
+    void shouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(dogService.getDogVersion(1L)).thenReturn(4L);
+
+        mockMvc.perform(get("/api/dogs/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\", W/\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(dogService, never()).getDog(any());
+    }
+
+    @Test
+    @DisplayName("If-Match that is not a single strong ETag should fail the precondition")
+    void shouldFail_WhenIfMatchIsWeak() throws Exception {
+        mockMvc.perform(put("/api/dogs/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtils.getDogDTO3()))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Record 1 has been modified. Fetch the latest version and retry"));
+
+        verify(dogService, never()).updateDog(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Dog list should be written in the format named by the Accept header")
+    void shouldNegotiateBinaryFormats() throws Exception {
+        DogDTO dogDTO = objectMapper.readValue(TestUtils.getDogDTO3(), DogDTO.class);
+        dogDTO.setId(7L);
+        when(dogService.getDogList(any())).thenReturn(List.of(dogDTO));
+
+        mockMvc.perform(get("/api/dogs"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        byte[] cbor = mockMvc.perform(get("/api/dogs").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        DogDTO[] cborDogs = new CBORMapper().findAndRegisterModules().readValue(cbor, DogDTO[].class);
+        assertEquals(dogDTO.getName(), cborDogs[0].getName());
+        assertEquals(dogDTO.getBirthDate(), cborDogs[0].getBirthDate());
+
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        byte[] smileBody = mockMvc.perform(get("/api/dogs").accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+        DogDTO[] smileDogs = new SmileMapper().findAndRegisterModules().readValue(smileBody, DogDTO[].class);
+        assertEquals(dogDTO.getBadgeId(), smileDogs[0].getBadgeId());
+
+        byte[] protobuf = mockMvc.perform(get("/api/dogs").accept(DogProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(DogProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+        // DogList.dogs is field 1, length delimited
+        assertEquals(0x0A, protobuf[0]);
+        assertTrue(protobuf.length < objectMapper.writeValueAsBytes(List.of(dogDTO)).length);
+    }
+
+    @Test
+    @DisplayName("Request bodies should be validated by the precompiled validator")
+    void shouldUsePrecompiledValidator() {
+        Validator target = ((ValidatorAdapter) mvcValidator).getTarget();
+
+        assertInstanceOf(PrecompiledValidator.class, target);
+        assertTrue(((PrecompiledValidator) target).hasPlan(DogDTO.class));
+    }
 }
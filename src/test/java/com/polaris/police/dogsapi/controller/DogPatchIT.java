@@ -0,0 +1,143 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.SqlStatementCollector;
+import com.polaris.police.dogsapi.TestUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the merge patch endpoint of {@link DogController}.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.polaris.police.dogsapi.SqlStatementCollector")
+@AutoConfigureMockMvc
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+class DogPatchIT {
+
+    private static final MediaType MERGE_PATCH = MediaType.parseMediaType(DogController.MERGE_PATCH_JSON_VALUE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Integration test - Patch should write only the changed columns")
+    void shouldUpdateOnlyChangedColumns() throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus").value("RETIRED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Rex"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplierName").value("breeder"));
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertTrue(statements.stream().noneMatch(sql -> sql.toLowerCase().matches("(?s).*\\b(from|join) supplier\\b.*")),
+                () -> String.join("\n", statements));
+        String update = statements.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("update"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(update.contains("current_status"), update);
+        assertTrue(update.contains("version"), update);
+        assertFalse(update.contains("name"), update);
+        assertFalse(update.contains("supplier_id"), update);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT current_status, badge_id FROM dogs WHERE id = ?", 1);
+        assertEquals("RETIRED", row.get("CURRENT_STATUS"));
+        assertEquals("K9-001", row.get("BADGE_ID"));
+    }
+
+    @Test
+    @DisplayName("Integration test - Patch should clear null fields and change the supplier")
+    void shouldClearNullFieldsAndChangeSupplier() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"badgeId\": null, \"supplierId\": 2, \"leavingDate\": \"2024-01-31\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.badgeId").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplierId").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplierName").value("kennels"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.leavingDate").value("2024-01-31"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplierName").value("kennels"));
+    }
+
+    @Test
+    @DisplayName("Integration test - Patched record should be validated")
+    void shouldRejectInvalidPatch() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"badgeId\": \"" + "a".repeat(201) + "\"}"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].field").value("badgeId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].message")
+                        .value("must be less than or equal to 200 characters"));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"supplierId\": null}"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].field").value("supplierId"));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"gender\": \"MAL\"}"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fieldErrors[0].field").value("gender"));
+
+        Integer version = jdbcTemplate.queryForObject("SELECT version FROM dogs WHERE id = ?", Integer.class, 1);
+        assertEquals(0, version);
+    }
+
+    @Test
+    @DisplayName("Integration test - Patch with a stale version should be rejected")
+    void shouldRejectStaleVersion() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .header(HttpHeaders.IF_MATCH, "\"5\"")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/2")
+                        .contentType(MERGE_PATCH)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
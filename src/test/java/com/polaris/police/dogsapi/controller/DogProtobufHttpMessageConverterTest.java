@@ -0,0 +1,92 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.polaris.police.dogsapi.controller.converter.DogProtobufHttpMessageConverter;
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.model.enums.Gender;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DogProtobufHttpMessageConverterTest {
+
+    private static final Type DOG_LIST = ResolvableType.forClassWithGenerics(List.class, DogDTO.class).getType();
+
+    private final DogProtobufHttpMessageConverter converter = new DogProtobufHttpMessageConverter();
+
+    @Test
+    @DisplayName("Protobuf converter - Only dog records and lists are written, nothing is read")
+    void testCanReadAndWrite() {
+        MediaType protobuf = DogProtobufHttpMessageConverter.PROTOBUF;
+        Type stringList = ResolvableType.forClassWithGenerics(List.class, String.class).getType();
+
+        assertTrue(converter.canWrite(DOG_LIST, List.class, protobuf));
+        assertTrue(converter.canWrite(DogDTO.class, DogDTO.class, protobuf));
+        assertFalse(converter.canWrite(stringList, List.class, protobuf));
+        assertFalse(converter.canWrite(DOG_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(DogDTO.class, null, protobuf));
+    }
+
+    @Test
+    @DisplayName("Protobuf converter - Dog list is written as the DogList message")
+    void testWriteDogList() throws IOException {
+        DogDTO rex = DogDTO.builder()
+                .id(300L)
+                .name("Rex")
+                .supplierId(1)
+                .birthDate(LocalDate.of(2021, 5, 20))
+                .gender(Gender.MALE)
+                .currentStatus(DogStatus.IN_SERVICE)
+                .version(2L)
+                .build();
+        DogDTO bella = DogDTO.builder().id(301L).name("Bella").build();
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(List.of(rex, bella), DOG_LIST, DogProtobufHttpMessageConverter.PROTOBUF, message);
+
+        CodedInputStream input = CodedInputStream.newInstance(message.getBodyAsBytes());
+        List<Map<Integer, Object>> dogs = new ArrayList<>();
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            assertEquals(1, WireFormat.getTagFieldNumber(tag));
+            assertEquals(WireFormat.WIRETYPE_LENGTH_DELIMITED, WireFormat.getTagWireType(tag));
+            dogs.add(readDog(input.readBytes().newCodedInput()));
+        }
+
+        assertEquals(2, dogs.size());
+        assertEquals(Map.of(1, 300L, 2, "Rex", 4, 1L, 7, LocalDate.of(2021, 5, 20).toEpochDay(), 9, "MALE",
+                10, "IN_SERVICE", 14, 2L), dogs.get(0));
+        // Null fields are left out
+        assertEquals(Map.of(1, 301L, 2, "Bella"), dogs.get(1));
+    }
+
+    /**
+     * Field number to value, varints as Long and strings as String
+     */
+    private static Map<Integer, Object> readDog(CodedInputStream input) throws IOException {
+        Map<Integer, Object> fields = new HashMap<>();
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_VARINT) {
+                fields.put(field, input.readInt64());
+            } else {
+                fields.put(field, input.readString());
+            }
+        }
+        return fields;
+    }
+}
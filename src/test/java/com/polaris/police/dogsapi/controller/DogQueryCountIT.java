@@ -0,0 +1,213 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.SqlStatementCollector;
+import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.config.CacheConfig;
+import com.polaris.police.dogsapi.service.impl.DogFullTextIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Number of SQL statements issued by the read endpoints of {@link DogController}. The supplier of every dog is
+ * loaded in the same query, so the count does not depend on the page size.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.polaris.police.dogsapi.SqlStatementCollector")
+@AutoConfigureMockMvc
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+class DogQueryCountIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DogFullTextIndex dogFullTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 30})
+    @DisplayName("Integration test - Dog list should use a single query")
+    void shouldListDogsWithConstantStatementCount(int pageSize) throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("pageSize", String.valueOf(pageSize)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(pageSize))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].supplierName").isNotEmpty());
+
+        assertEquals(1, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 30})
+    @DisplayName("Integration test - Dog cursor page should use a single query")
+    void shouldScrollDogsWithConstantStatementCount(int pageSize) throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("pageSize", String.valueOf(pageSize)).param("after", ""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(pageSize));
+
+        assertEquals(1, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+    }
+
+    @Test
+    @DisplayName("Integration test - Dog detail should use a single query")
+    void shouldGetDogWithSingleStatement() throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplierName").value("breeder"));
+
+        assertEquals(1, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+    }
+
+    @Test
+    @DisplayName("Integration test - Free text search should load the ranked records in a single query")
+    void shouldSearchDogsWithSingleStatement() throws Exception {
+        dogFullTextIndex.rebuild();
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/search").param("q", "retriever").param("limit", "30"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(17));
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertEquals(1, statements.size(), () -> String.join("\n", statements));
+        assertFalse(statements.get(0).toLowerCase().contains("like"), statements.get(0));
+    }
+
+    @Test
+    @DisplayName("Integration test - Facet counts should use one aggregate query per facet and be cached")
+    void shouldCountFacetsWithAggregateQueries() throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/facets").param("supplier", "kennels"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.supplier[0].value").value("kennels"));
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertEquals(4, statements.size(), () -> String.join("\n", statements));
+        assertTrue(statements.stream().allMatch(sql -> sql.toLowerCase().contains("group by")), () -> String.join("\n", statements));
+
+        SqlStatementCollector.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/facets").param("supplier", "kennels"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertTrue(SqlStatementCollector.getStatements().isEmpty(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+    }
+
+    @Test
+    @DisplayName("Integration test - Repeated dog lists should be answered from the query cache until a dog changes")
+    void shouldAnswerRepeatedDogListsFromQueryCache() throws Exception {
+        SqlStatementCollector.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "german shepherd"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].supplierName").value("breeder"));
+        assertEquals(1, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+
+        SqlStatementCollector.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "german shepherd"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].supplierName").value("breeder"));
+        assertTrue(SqlStatementCollector.getStatements().isEmpty(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"breed\": \"Dutch Shepherd\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        SqlStatementCollector.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "german shepherd"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", not(hasItem(1))));
+        assertEquals(1, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+    }
+
+    @Test
+    @DisplayName("Integration test - Repeated searches should be answered from the dog lists cache until a dog changes")
+    void shouldAnswerRepeatedSearchesFromDogListsCache() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        com.github.benmanes.caffeine.cache.Cache<?, ?> dogLists = (com.github.benmanes.caffeine.cache.Cache<?, ?>)
+                cacheManager.getCache(CacheConfig.DOG_LISTS_CACHE).getNativeCache();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "German Shepherd").param("supplier", "breeder"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", hasItem(1)));
+
+        // Filters written differently share the entry, and the query cache is not consulted
+        long hits = dogLists.stats().hitCount();
+        long queryCacheRequests = statistics.getQueryCacheHitCount() + statistics.getQueryCacheMissCount();
+        SqlStatementCollector.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "german shepherd").param("supplier", "BREEDER"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", hasItem(1)));
+        assertEquals(hits + 1, dogLists.stats().hitCount());
+        assertEquals(queryCacheRequests, statistics.getQueryCacheHitCount() + statistics.getQueryCacheMissCount());
+        assertTrue(SqlStatementCollector.getStatements().isEmpty(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        hits = dogLists.stats().hitCount();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs").param("breed", "german shepherd").param("supplier", "breeder"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", not(hasItem(1))));
+        assertEquals(hits, dogLists.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes should load the dog and its supplier from the second-level cache")
+    void shouldLoadDogsForChangesFromSecondLevelCache() throws Exception {
+        // Dogs 1 and 3 share supplier 1, which is loaded by the first delete
+        for (long id : new long[]{1, 3}) {
+            mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/" + id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"currentStatus\": \"RETIRED\"}"))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/3"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertTrue(statements.stream().anyMatch(sql -> sql.startsWith("update dogs")), () -> String.join("\n", statements));
+        assertTrue(statements.stream().noneMatch(sql -> sql.contains("from dogs") || sql.contains("from supplier")),
+                () -> String.join("\n", statements));
+
+        // A deleted dog is still cached, but must not be changed again
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/3"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
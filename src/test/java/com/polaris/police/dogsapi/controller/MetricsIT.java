@@ -0,0 +1,58 @@
+package com.polaris.police.dogsapi.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the request, service, Hibernate and connection pool metrics.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Integration test - Request and persistence metrics should be published")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+    void shouldPublishMetrics() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/999"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        String metrics = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(metrics)
+                .containsPattern("http_server_requests_seconds_bucket\\{.*outcome=\"SUCCESS\".*uri=\"/api/dogs/\\{id}\"")
+                .containsPattern("http_server_requests_seconds_count\\{.*outcome=\"CLIENT_ERROR\".*status=\"404\".*uri=\"/api/dogs/\\{id}\"")
+                .containsPattern("dogs_service_seconds_bucket\\{.*method=\"getDog\"")
+                .containsPattern("dogs_service_seconds_count\\{.*exception=\"ResourceNotFoundException\".*method=\"getDog\"")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_sessions_open_total")
+                .containsPattern("hibernate_second_level_cache_requests_total\\{.*region=\"dog\".*result=\"miss\"")
+                .containsPattern("dogs_cache_region_hit_ratio\\{.*region=\"dog\"")
+                .containsPattern("dogs_cache_region_hit_ratio\\{.*region=\"supplier\"")
+                .containsPattern("dogs_cache_region_hit_ratio\\{.*region=\"dogList\"")
+                .contains("hikaricp_connections_active");
+    }
+}
@@ -0,0 +1,43 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polaris.police.dogsapi.controller.export.NdjsonDogExportWriter;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonDogExportWriterTest {
+
+    @Test
+    @DisplayName("NDJSON export - One line per dog, flushed once at the end")
+    void testWrite_FlushedOnce() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] flushes = new int[1];
+        FilterOutputStream out = new FilterOutputStream(bytes) {
+            @Override
+            public void flush() throws IOException {
+                flushes[0]++;
+                super.flush();
+            }
+        };
+
+        NdjsonDogExportWriter writer = new NdjsonDogExportWriter(new ObjectMapper(), out);
+        for (long id = 1; id <= 100; id++) {
+            writer.write(DogDTO.builder().id(id).name("Dog " + id).build());
+        }
+        assertEquals(0, flushes[0]);
+
+        writer.flush();
+
+        assertEquals(1, flushes[0]);
+        String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(100, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"), lines[0]);
+    }
+}
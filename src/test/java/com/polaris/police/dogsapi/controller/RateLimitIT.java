@@ -0,0 +1,131 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.SqlStatementCollector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the per-client budgets of {@link com.polaris.police.dogsapi.controller.filter.RateLimitFilter}.
+ * Buckets hardly refill with these settings, so every test starts from a fresh context.
+ */
+@SpringBootTest(properties = {
+        "dogsapi.rate-limit.enabled=true",
+        "dogsapi.rate-limit.api-keys=kennel-sync,vet-portal",
+        "dogsapi.rate-limit.search-capacity=3",
+        "dogsapi.rate-limit.search-refill-per-second=0.01",
+        "dogsapi.rate-limit.write-capacity=1",
+        "dogsapi.rate-limit.write-refill-per-second=0.01",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.polaris.police.dogsapi.SqlStatementCollector"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+class RateLimitIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Integration test - A client over its budget should get 429 without reaching the database")
+    void shouldThrottleClientOverBudget() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs"))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "100"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(429))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Too many requests. Retry after 100 seconds"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.path").value("/api/dogs/1"));
+
+        assertEquals(0, SqlStatementCollector.getStatements().size(), () -> String.join("\n", SqlStatementCollector.getStatements()));
+        assertEquals(1, meterRegistry.get("dogs.ratelimit.throttled").tag("budget", "search").counter().count());
+        assertEquals(0, meterRegistry.get("dogs.ratelimit.throttled").tag("budget", "write").counter().count());
+    }
+
+    @Test
+    @DisplayName("Integration test - Searches and writes should have separate budgets")
+    void shouldKeepSearchAndWriteBudgetsApart() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER));
+
+        // The write budget is spent, reads are still admitted
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentStatus").value("RETIRED"));
+
+        assertEquals(1, meterRegistry.get("dogs.ratelimit.throttled").tag("budget", "write").counter().count());
+    }
+
+    @Test
+    @DisplayName("Integration test - Clients should be told apart by API key, then by address")
+    void shouldKeepClientsApart() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "kennel-sync"))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "kennel-sync"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "vet-portal"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").with(request -> {
+                    request.setRemoteAddr("10.0.0.7");
+                    return request;
+                }))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    @DisplayName("Integration test - Unknown API keys should not get budgets of their own")
+    void shouldThrottleRotatingUnknownKeysByAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "made-up-" + i))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "made-up-3"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+
+        // Issued keys still have their own budget
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dogs/1").header("X-API-Key", "kennel-sync"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertEquals(2, meterRegistry.get("dogs.ratelimit.clients").tag("budget", "search").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Integration test - Requests outside the API should not be throttled")
+    void shouldNotThrottleOutsideApi() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+    }
+}
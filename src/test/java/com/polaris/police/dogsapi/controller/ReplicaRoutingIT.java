@@ -0,0 +1,180 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.service.outbox.DogChangedEvent;
+import com.polaris.police.dogsapi.service.outbox.DogOutboxDispatcher;
+import com.polaris.police.dogsapi.service.outbox.ReplicaDogChangeSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for read replica routing on two in-memory databases. The replica is loaded with the same fixtures
+ * as the primary and then only changes through the outbox, which tests deliver by calling the dispatcher.
+ */
+@SpringBootTest(properties = {"dogsapi.replica.enabled=true", "dogsapi.rate-limit.api-keys=writer,reader"})
+@AutoConfigureMockMvc
+@DirtiesContext
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+class ReplicaRoutingIT {
+
+    private static final String WRITER = "writer";
+    private static final String READER = "reader";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private DogOutboxDispatcher dogOutboxDispatcher;
+
+    @Autowired
+    private ReplicaDogChangeSink replicaDogChangeSink;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/clean_table.sql"),
+                new ClassPathResource("db/add_suppliers.sql"), new ClassPathResource("db/add_dog.sql"))
+                .execute(replicaDataSource);
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Integration test - Single records, lists and exports should be read from the replica")
+    void shouldReadFromReplica() throws Exception {
+        replicaJdbcTemplate.update("UPDATE dogs SET name = 'Replica Rex' WHERE id = 1");
+
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs/1")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Replica Rex"));
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs").param("name", "replica rex")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1));
+        assertTrue(export(READER).contains("\"name\":\"Replica Rex\""));
+
+        assertEquals("Rex", jdbcTemplate.queryForObject("SELECT name FROM dogs WHERE id = 1", String.class));
+    }
+
+    @Test
+    @DisplayName("Integration test - A client should read its own writes before they reach the replica")
+    void shouldReadOwnWritesFromPrimary() throws Exception {
+        double pinnedReads = meterRegistry.get("dogs.replica.pinned.reads").counter().count();
+
+        mockMvc.perform(as(WRITER, MockMvcRequestBuilders.patch("/api/dogs/1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Rexy\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Written to the primary only, the replica is updated when the outbox is delivered
+        assertEquals("Rexy", jdbcTemplate.queryForObject("SELECT name FROM dogs WHERE id = 1", String.class));
+        assertEquals("Rex", replicaJdbcTemplate.queryForObject("SELECT name FROM dogs WHERE id = 1", String.class));
+
+        // The empty result read from the replica is cached, but not used for the writer
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs").param("name", "rexy")))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(as(WRITER, MockMvcRequestBuilders.get("/api/dogs").param("name", "rexy")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1));
+        assertTrue(export(WRITER).contains("\"name\":\"Rexy\""));
+        assertEquals(pinnedReads + 2, meterRegistry.get("dogs.replica.pinned.reads").counter().count());
+
+        assertEquals(1, dogOutboxDispatcher.dispatch());
+
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs").param("name", "rexy")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1));
+        assertEquals(1L, replicaJdbcTemplate.queryForObject("SELECT version FROM dogs WHERE id = 1", Long.class));
+    }
+
+    @Test
+    @DisplayName("Integration test - Deletes should reach the replica and evict records cached from it")
+    void shouldApplyDeletesToReplica() throws Exception {
+        mockMvc.perform(as(WRITER, MockMvcRequestBuilders.delete("/api/dogs/1")))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(as(WRITER, MockMvcRequestBuilders.get("/api/dogs/1")))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        // Read from the lagging replica and cached
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs/1")))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertEquals(1, dogOutboxDispatcher.dispatch());
+
+        mockMvc.perform(as(READER, MockMvcRequestBuilders.get("/api/dogs/1")))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        assertEquals(Boolean.TRUE, replicaJdbcTemplate.queryForObject("SELECT deleted FROM dogs WHERE id = 1", Boolean.class));
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes delivered again should not overwrite newer replica rows")
+    void shouldSkipOlderVersions() {
+        replicaJdbcTemplate.update("UPDATE dogs SET name = 'Rexy', version = 2 WHERE id = 1");
+        DogDTO dog = DogDTO.builder().id(1L).name("Rex").breed("German Shepherd").supplierId(1).build();
+
+        replicaDogChangeSink.publish(List.of(
+                new DogChangedEvent(1, DogChangeType.UPDATED, 1L, 1, dog, LocalDateTime.now()),
+                new DogChangedEvent(2, DogChangeType.CREATED, 2L, 0, dog.toBuilder().id(2L).build(), LocalDateTime.now())));
+
+        assertEquals("Rexy", replicaJdbcTemplate.queryForObject("SELECT name FROM dogs WHERE id = 1", String.class));
+        assertEquals("Rex", replicaJdbcTemplate.queryForObject("SELECT name FROM dogs WHERE id = 2", String.class));
+    }
+
+    private String export(String client) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(as(client, MockMvcRequestBuilders.get("/api/dogs/export")))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private static MockHttpServletRequestBuilder as(String client, MockHttpServletRequestBuilder request) {
+        return request.header("X-API-Key", client);
+    }
+}
@@ -0,0 +1,74 @@
+package com.polaris.police.dogsapi.controller;
+
+import com.polaris.police.dogsapi.controller.filter.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Token bucket - A full bucket admits a burst of its capacity")
+    void testBurst() {
+        TokenBucket bucket = new TokenBucket(3, 2);
+        long now = 42;
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(SECOND / 2, bucket.tryAcquire(now));
+    }
+
+    @Test
+    @DisplayName("Token bucket - Tokens are refilled at the configured rate up to the capacity")
+    void testRefill() {
+        TokenBucket bucket = new TokenBucket(2, 2);
+        long now = -SECOND;
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+
+        assertEquals(SECOND / 4, bucket.tryAcquire(now + SECOND / 4));
+        assertEquals(0, bucket.tryAcquire(now + SECOND / 2));
+        assertTrue(bucket.tryAcquire(now + SECOND / 2) > 0);
+
+        // Idle for a minute still only allows a burst of the capacity
+        now += 60 * SECOND;
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now) > 0);
+    }
+
+    @Test
+    @DisplayName("Token bucket - Concurrent requests never take more tokens than the capacity")
+    void testConcurrentAcquire() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, 0.001);
+        long now = System.nanoTime();
+        AtomicInteger admitted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.submit(() -> {
+                    if (bucket.tryAcquire(now) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertEquals(100, admitted.get());
+    }
+
+    @Test
+    @DisplayName("Token bucket - Capacity and refill rate must be positive")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
@@ -34,7 +34,7 @@ class DogMapperTest {
 
         assertThat(entity)
                 .usingRecursiveComparison()
-                .ignoringFields("id", "createdAt", "supplier", "deleted")
+                .ignoringFields("id", "createdAt", "supplier", "deleted", "nameLower", "breedLower", "version")
                 .isEqualTo(dto);
     }
 
@@ -0,0 +1,87 @@
+package com.polaris.police.dogsapi.repository;
+
+import com.polaris.police.dogsapi.SqlStatementCollector;
+import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.service.DogService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that case-insensitive search uses the lower-case column indexes, including the supplier name index, and the
+ * unfiltered list the active rows index, instead of a full scan.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.polaris.police.dogsapi.SqlStatementCollector")
+class DogSearchIndexIT {
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+        SqlStatementCollector.clear();
+    }
+
+    static Stream<Arguments> searchArguments() {
+        return Stream.of(
+                Arguments.of(SearchParam.builder().name("BAILEY").pageSize(10).build(), "bailey", "IDX_DOGS_NAME_LOWER"),
+                Arguments.of(SearchParam.builder().breed("German Shepherd").pageSize(10).build(), "german shepherd", "IDX_DOGS_BREED_LOWER"),
+                Arguments.of(SearchParam.builder().supplier("Kennels").pageSize(10).build(), "kennels", "IDX_SUPPLIER_NAME_LOWER"),
+                Arguments.of(SearchParam.builder().pageSize(10).build(), null, "IDX_DOGS_DELETED_ID")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("searchArguments")
+    @Transactional
+    @DisplayName("Search index - Search predicates should use an index")
+    @Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog_for_search.sql"})
+    void shouldUseSearchIndex(SearchParam searchParam, String value, String indexName) {
+        assertFalse(dogService.getDogList(searchParam).isEmpty());
+
+        String sql = SqlStatementCollector.getStatements().stream()
+                .filter(s -> s.startsWith("select") && s.contains("from dogs") && !s.contains("count("))
+                .findFirst()
+                .orElseThrow();
+
+        // First parameter is the search value if there is one, the rest are the page limits
+        List<Object> params = new ArrayList<>();
+        if (value != null) {
+            params.add(value);
+        }
+        for (int i = params.size(); i < sql.chars().filter(c -> c == '?').count(); i++) {
+            params.add(searchParam.getPageSize());
+        }
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params.toArray());
+        assertNotNull(plan);
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(plan.contains(indexName), plan);
+    }
+}
@@ -0,0 +1,167 @@
+package com.polaris.police.dogsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.polaris.police.dogsapi.model.db.entity.Dog;
+import com.polaris.police.dogsapi.model.db.repository.DogRepository;
+import com.polaris.police.dogsapi.service.impl.DogFullTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class DogFullTextIndexTest {
+
+    @Mock
+    private DogRepository dogRepository;
+
+    @InjectMocks
+    private DogFullTextIndex dogFullTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        dogFullTextIndex.put(dog(1L, "Rex", "German Shepherd", "Strong, obedient, and alert."));
+        dogFullTextIndex.put(dog(2L, "Bella", "Labrador Retriever", "Calm temperament and highly social."));
+        dogFullTextIndex.put(dog(3L, "Shep", "Belgian Malinois", "Excellent tracking ability."));
+        dogFullTextIndex.put(dog(4L, "Luna", "Golden Retriever", "Friendly, good at tracking."));
+    }
+
+    @Test
+    @DisplayName("Full text index - Exact words match case-insensitively")
+    void testSearch_ExactWord() {
+        assertEquals(List.of(2L), dogFullTextIndex.search("LABRADOR", 10));
+        assertEquals(List.of(2L, 4L), dogFullTextIndex.search("retriever", 10));
+    }
+
+    @Test
+    @DisplayName("Full text index - Partial words match as prefixes")
+    void testSearch_Prefix() {
+        assertEquals(List.of(2L), dogFullTextIndex.search("lab", 10));
+        assertEquals(List.of(3L, 4L), dogFullTextIndex.search("track", 10));
+    }
+
+    @Test
+    @DisplayName("Full text index - Misspelled words match by trigram similarity")
+    void testSearch_Fuzzy() {
+        assertEquals(List.of(2L, 4L), dogFullTextIndex.search("retreiver", 10));
+        assertEquals(List.of(3L), dogFullTextIndex.search("malinoise", 10));
+    }
+
+    @Test
+    @DisplayName("Full text index - Name matches rank above breed and characteristic matches")
+    void testSearch_FieldWeight() {
+        // "shep" is the name of dog 3 and a prefix of the breed of dog 1
+        assertEquals(List.of(3L, 1L), dogFullTextIndex.search("shep", 10));
+    }
+
+    @Test
+    @DisplayName("Full text index - Dogs matching more words rank first and the limit is applied")
+    void testSearch_MultipleWordsAndLimit() {
+        assertEquals(List.of(4L, 2L), dogFullTextIndex.search("golden retriever", 10));
+        assertEquals(List.of(4L), dogFullTextIndex.search("golden retriever", 1));
+    }
+
+    @Test
+    @DisplayName("Full text index - Blank and unknown queries match nothing")
+    void testSearch_NoMatch() {
+        assertTrue(dogFullTextIndex.search("  ,. ", 10).isEmpty());
+        assertTrue(dogFullTextIndex.search("poodle", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Full text index - Updated text replaces the old terms")
+    void testPut_ReplacesTerms() {
+        dogFullTextIndex.put(dog(2L, "Bella", "Springer Spaniel", null));
+
+        assertTrue(dogFullTextIndex.search("labrador", 10).isEmpty());
+        assertEquals(List.of(2L), dogFullTextIndex.search("spaniel", 10));
+        assertEquals(4, dogFullTextIndex.size());
+    }
+
+    @Test
+    @DisplayName("Full text index - Removed dogs are not found")
+    void testRemove() {
+        dogFullTextIndex.remove(1L);
+        dogFullTextIndex.remove(99L);
+
+        assertFalse(dogFullTextIndex.search("shepherd", 10).contains(1L));
+        assertEquals(List.of(3L), dogFullTextIndex.search("shep", 10));
+        assertEquals(3, dogFullTextIndex.size());
+    }
+
+    @Test
+    @DisplayName("Full text index - Changes in a transaction are applied only when it commits")
+    void testPutAndRemove_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Dog renamed = dog(2L, "Bella", "Springer Spaniel", null);
+            dogFullTextIndex.put(renamed);
+            dogFullTextIndex.remove(1L);
+            renamed.setBreed("Poodle");
+
+            assertEquals(List.of(2L), dogFullTextIndex.search("labrador", 10));
+            assertEquals(List.of(1L), dogFullTextIndex.search("german", 10));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // The text at the time of the change is indexed
+        assertEquals(List.of(2L), dogFullTextIndex.search("spaniel", 10));
+        assertTrue(dogFullTextIndex.search("poodle", 10).isEmpty());
+        assertTrue(dogFullTextIndex.search("german", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Full text index - Changes in a rolled-back transaction are discarded")
+    void testPutAndRemove_RolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dogFullTextIndex.put(dog(2L, "Bella", "Springer Spaniel", null));
+            dogFullTextIndex.remove(1L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(2L), dogFullTextIndex.search("labrador", 10));
+        assertEquals(List.of(1L), dogFullTextIndex.search("german", 10));
+        assertEquals(4, dogFullTextIndex.size());
+    }
+
+    @Test
+    @DisplayName("Full text index - Rebuild replaces the index with the database content")
+    void testRebuild() {
+        when(dogRepository.streamAll(any())).thenReturn(Stream.of(dog(5L, "Max", "Belgian Malinois", null)));
+
+        dogFullTextIndex.rebuild();
+
+        assertEquals(1, dogFullTextIndex.size());
+        assertEquals(List.of(5L), dogFullTextIndex.search("malinois", 10));
+        assertTrue(dogFullTextIndex.search("retriever", 10).isEmpty());
+    }
+
+    private static Dog dog(Long id, String name, String breed, String characteristic) {
+        return Dog.builder()
+                .id(id)
+                .name(name)
+                .breed(breed)
+                .kennellingCharacteristic(characteristic)
+                .build();
+    }
+}
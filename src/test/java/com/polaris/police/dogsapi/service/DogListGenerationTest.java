@@ -0,0 +1,88 @@
+package com.polaris.police.dogsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.polaris.police.dogsapi.config.ReplicaRoutingDataSource;
+import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.service.impl.DogListGeneration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class DogListGenerationTest {
+
+    private final DogListGeneration dogListGeneration = new DogListGeneration();
+
+    @Test
+    @DisplayName("Dog List Generation - Filters are normalized like the search query")
+    void testKey_Normalized() {
+        SearchParam param = new SearchParam("Rex", "German Shepherd", " ", 1, 20);
+        SearchParam sameSearch = new SearchParam("rex", "GERMAN SHEPHERD", null, 1, 20);
+
+        assertEquals(dogListGeneration.key(param), dogListGeneration.key(sameSearch));
+        assertEquals(new DogListGeneration.Key(0, "rex", "german shepherd", null, 1, 20), dogListGeneration.key(param));
+        assertNotEquals(dogListGeneration.key(param), dogListGeneration.key(param.toBuilder().pageNum(2).build()));
+    }
+
+    @Test
+    @DisplayName("Dog List Generation - Facets keys are normalized, ignore paging and follow the generation")
+    void testFacetsKey_Normalized() {
+        SearchParam param = new SearchParam("Rex", "German Shepherd", " ", 1, 20);
+        SearchParam sameSearch = new SearchParam("rex", "GERMAN SHEPHERD", null, 3, 10);
+
+        assertEquals(dogListGeneration.facetsKey(param), dogListGeneration.facetsKey(sameSearch));
+        assertEquals(new DogListGeneration.FacetsKey(0, "rex", "german shepherd", null), dogListGeneration.facetsKey(param));
+        assertNotEquals(dogListGeneration.facetsKey(param),
+                dogListGeneration.facetsKey(param.toBuilder().supplier("breeder").build()));
+
+        DogListGeneration.FacetsKey before = dogListGeneration.facetsKey(param);
+        dogListGeneration.advance();
+        assertNotEquals(before, dogListGeneration.facetsKey(param));
+    }
+
+    @Test
+    @DisplayName("Dog List Generation - Advancing outside a transaction makes earlier keys unreachable")
+    void testAdvance_NoTransaction() {
+        SearchParam param = new SearchParam("Rex", null, null, 0, 20);
+        DogListGeneration.Key before = dogListGeneration.key(param);
+
+        dogListGeneration.advance();
+
+        assertEquals(1, dogListGeneration.current());
+        assertNotEquals(before, dogListGeneration.key(param));
+    }
+
+    @Test
+    @DisplayName("Dog List Generation - Advanced only when the transaction commits")
+    void testAdvance_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dogListGeneration.advance();
+            dogListGeneration.advance();
+            assertEquals(0, dogListGeneration.current());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            assertEquals(2, dogListGeneration.current());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Dog List Generation - Reads pinned to the primary bypass the cache")
+    void testIsCacheable_Pinned() {
+        assertTrue(dogListGeneration.isCacheable());
+        ReplicaRoutingDataSource.setPinnedToPrimary(true);
+        try {
+            assertFalse(dogListGeneration.isCacheable());
+        } finally {
+            ReplicaRoutingDataSource.setPinnedToPrimary(false);
+        }
+    }
+}
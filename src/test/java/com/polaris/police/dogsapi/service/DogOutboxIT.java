@@ -0,0 +1,246 @@
+package com.polaris.police.dogsapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.config.DogOutboxProperties;
+import com.polaris.police.dogsapi.model.db.repository.DogOutboxRepository;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.service.outbox.DogChangeSink;
+import com.polaris.police.dogsapi.service.outbox.DogChangedEvent;
+import com.polaris.police.dogsapi.service.outbox.DogOutboxDispatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dog changes are recorded in the outbox with the change and delivered later by {@link DogOutboxDispatcher}.
+ * The background dispatcher is disabled for integration tests, so delivery happens when the test calls it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+@Sql(scripts = {"/db/clean_table.sql", "/db/add_suppliers.sql", "/db/add_dog.sql"})
+class DogOutboxIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DogOutboxDispatcher dogOutboxDispatcher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DogOutboxRepository dogOutboxRepository;
+
+    @Autowired
+    private List<DogChangeSink> sinks;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        TestUtils.clearCaches(cacheManager, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes should be delivered in order after the request completes")
+    void shouldDeliverChangesInOrder() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/dogs/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtils.getDogDTO4().replace("\"Rex\"", "\"Rexy\"")))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/dogs/1"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        // Recorded with the changes, nothing delivered on the request thread
+        assertEquals(3, countOutbox());
+        assertEquals(0, applicationEvents.stream(DogChangedEvent.class).count());
+
+        assertEquals(3, dogOutboxDispatcher.dispatch());
+
+        List<DogChangedEvent> events = applicationEvents.stream(DogChangedEvent.class).toList();
+        assertEquals(List.of(DogChangeType.UPDATED, DogChangeType.UPDATED, DogChangeType.DELETED),
+                events.stream().map(DogChangedEvent::changeType).toList());
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(DogChangedEvent::dogVersion).toList());
+        assertTrue(events.get(0).id() < events.get(1).id() && events.get(1).id() < events.get(2).id());
+        assertTrue(events.stream().allMatch(event -> event.dogId() == 1L));
+
+        DogChangedEvent updated = events.get(0);
+        assertEquals("Rexy", updated.dog().getName());
+        assertEquals("kennels", updated.dog().getSupplierName());
+        assertEquals(1L, updated.dog().getVersion());
+        assertEquals(DogStatus.RETIRED, events.get(1).dog().getCurrentStatus());
+
+        assertEquals(0, countOutbox());
+        assertEquals(0, dogOutboxDispatcher.dispatch());
+    }
+
+    @Test
+    @DisplayName("Integration test - Rejected changes should not be recorded")
+    void shouldNotRecordRejectedChanges() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/dogs/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtils.getDogDTO4()))
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/dogs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtils.getDogDTO1().replace("\"supplierId\": 1", "\"supplierId\": 9")))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        assertEquals(0, countOutbox());
+        assertEquals(0, dogOutboxDispatcher.dispatch());
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes held by another dispatcher should not be delivered twice or overtaken")
+    void shouldNotOvertakeChangesHeldByAnotherDispatcher() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentStatus\": \"RETIRED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/dogs/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentStatus\": \"IN_SERVICE\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        // Change of another dog recorded by another instance
+        jdbcTemplate.update("INSERT INTO dog_outbox (id, dog_id, dog_version, change_type, payload, created_at) "
+                + "VALUES (1000000, 2, 0, 'CREATED', '{\"id\": 2, \"name\": \"Max\"}', NOW())");
+
+        // Another dispatcher holds the first change of dog 1
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Thread otherDispatcher = Thread.ofVirtual().start(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM dog_outbox WHERE dog_id = 1 AND dog_version = 1 FOR UPDATE");
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Only the new dog is delivered, the later change of dog 1 waits
+        try {
+            assertEquals(1, dogOutboxDispatcher.dispatch());
+        } finally {
+            release.countDown();
+            otherDispatcher.join();
+        }
+        List<DogChangedEvent> events = applicationEvents.stream(DogChangedEvent.class).toList();
+        assertEquals(List.of(DogChangeType.CREATED), events.stream().map(DogChangedEvent::changeType).toList());
+
+        assertEquals(2, dogOutboxDispatcher.dispatch());
+        events = applicationEvents.stream(DogChangedEvent.class).toList();
+        assertEquals(List.of(1L, 2L), events.stream().skip(1).map(DogChangedEvent::dogVersion).toList());
+        assertTrue(events.stream().skip(1).allMatch(event -> event.dogId() == 1L));
+        assertEquals(0, countOutbox());
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes should be taken in arrival order, so dogs changed often do not starve others")
+    void shouldNotStarveDogsWithHigherIds() {
+        DogOutboxDispatcher smallBatches = smallBatchDispatcher();
+        insertOutbox(100, 9, 0);
+
+        // Dogs 1 and 2 keep changing while the batches are delivered
+        long id = 101;
+        for (long version = 0; version < 3; version++) {
+            insertOutbox(id++, 1, version);
+            insertOutbox(id++, 2, version);
+            dispatch(smallBatches);
+            if (version == 0) {
+                // Taken with the oldest change of dog 1, before dogs 1 and 2 are changed again
+                assertTrue(applicationEvents.stream(DogChangedEvent.class).anyMatch(event -> event.dogId() == 9L));
+            }
+        }
+
+        List<DogChangedEvent> events = applicationEvents.stream(DogChangedEvent.class).toList();
+        assertEquals(List.of(0L, 1L, 2L), events.stream().filter(event -> event.dogId() == 1L)
+                .map(DogChangedEvent::dogVersion).toList());
+        assertEquals(0, countOutbox());
+    }
+
+    @Test
+    @DisplayName("Integration test - Changes of one dog with ids from different blocks should be delivered in version order")
+    void shouldDeliverChangesOfOneDogInVersionOrder() {
+        // Instances allocate outbox ids in blocks, so the later change of dog 3 can have the lower id
+        insertOutbox(500, 3, 1);
+        insertOutbox(550, 4, 0);
+        insertOutbox(600, 3, 0);
+
+        assertEquals(3, dispatch(smallBatchDispatcher()));
+
+        List<DogChangedEvent> events = applicationEvents.stream(DogChangedEvent.class).toList();
+        assertEquals(List.of(0L, 1L), events.stream().filter(event -> event.dogId() == 3L)
+                .map(DogChangedEvent::dogVersion).toList());
+        assertEquals(0, countOutbox());
+    }
+
+    /**
+     * Dispatcher with batches of 2 changes, called in a transaction like the proxied one
+     */
+    private DogOutboxDispatcher smallBatchDispatcher() {
+        return new DogOutboxDispatcher(dogOutboxRepository, sinks, objectMapper,
+                new DogOutboxProperties(false, Duration.ofSeconds(1), 2));
+    }
+
+    private int dispatch(DogOutboxDispatcher dispatcher) {
+        return new TransactionTemplate(transactionManager).execute(status -> dispatcher.dispatch());
+    }
+
+    private void insertOutbox(long id, long dogId, long dogVersion) {
+        jdbcTemplate.update("INSERT INTO dog_outbox (id, dog_id, dog_version, change_type, payload, created_at) "
+                + "VALUES (?, ?, ?, 'UPDATED', ?, NOW())", id, dogId, dogVersion, "{\"id\": " + dogId + "}");
+    }
+
+    private long countOutbox() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dog_outbox", Long.class);
+    }
+}
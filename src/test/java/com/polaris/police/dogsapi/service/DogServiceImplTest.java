@@ -1,12 +1,13 @@
 package com.polaris.police.dogsapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -15,15 +16,25 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.config.DogSearchProperties;
+import com.polaris.police.dogsapi.exception.PreconditionFailedException;
 import com.polaris.police.dogsapi.exception.ResourceNotFoundException;
 import com.polaris.police.dogsapi.model.db.entity.Dog;
 import com.polaris.police.dogsapi.model.db.entity.Supplier;
 import com.polaris.police.dogsapi.model.db.mapper.DogMapper;
 import com.polaris.police.dogsapi.model.db.repository.DogRepository;
-import com.polaris.police.dogsapi.model.db.repository.SupplierRepository;
+import com.polaris.police.dogsapi.model.enums.DogChangeType;
+import com.polaris.police.dogsapi.model.enums.DogFacet;
 import com.polaris.police.dogsapi.model.request.DogDTO;
 import com.polaris.police.dogsapi.model.request.SearchParam;
+import com.polaris.police.dogsapi.model.response.DogFacets;
+import com.polaris.police.dogsapi.model.response.DogSlice;
+import com.polaris.police.dogsapi.model.response.FacetCount;
+import com.polaris.police.dogsapi.service.impl.DogFullTextIndex;
+import com.polaris.police.dogsapi.service.impl.DogListGeneration;
 import com.polaris.police.dogsapi.service.impl.DogServiceImpl;
+import com.polaris.police.dogsapi.service.impl.SupplierRegistry;
+import com.polaris.police.dogsapi.service.outbox.DogOutbox;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,16 +42,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 class DogServiceImplTest {
@@ -49,7 +61,7 @@ class DogServiceImplTest {
     private DogRepository dogRepository;
 
     @Mock
-    private SupplierRepository supplierRepository;
+    private SupplierRegistry supplierRegistry;
 
     @Mock
     private MessageSource messageSource;
@@ -57,6 +69,18 @@ class DogServiceImplTest {
     @Mock
     private DogMapper dogMapper;
 
+    @Mock
+    private DogFullTextIndex dogFullTextIndex;
+
+    @Mock
+    private DogOutbox dogOutbox;
+
+    @Mock
+    private DogListGeneration dogListGeneration;
+
+    @Spy
+    private DogSearchProperties dogSearchProperties = new DogSearchProperties(true);
+
     @InjectMocks
     private DogServiceImpl dogServiceImpl;
 
@@ -79,7 +103,7 @@ class DogServiceImplTest {
         @Test
         @DisplayName("Save Dog - Save dog successfully")
         void createRecord_saveDog() {
-            when(supplierRepository.findById(1)).thenReturn(Optional.of(supplier));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
             when(dogMapper.toEntity(dogDTO)).thenReturn(dog);
             when(dogRepository.save(any(Dog.class))).thenReturn(dog);
             when(dogMapper.toDto(dog)).thenReturn(dogDTO);
@@ -88,16 +112,18 @@ class DogServiceImplTest {
 
             assertNotNull(result);
             assertEquals("Rex", result.getName());
-            verify(supplierRepository).findById(1);
+            verify(supplierRegistry).findById(1);
             verify(dogRepository).save(any(Dog.class));
             verify(dogMapper).toEntity(dogDTO);
             verify(dogMapper).toDto(dog);
+            verify(dogOutbox).record(DogChangeType.CREATED, dogDTO);
+            verify(dogListGeneration).advance();
         }
 
         @Test
         @DisplayName("Save Dog - Supplier not found")
         void createRecord_fail() {
-            when(supplierRepository.findById(1)).thenReturn(Optional.empty());
+            when(supplierRegistry.findById(1)).thenReturn(Optional.empty());
             when(messageSource.getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class)))
                     .thenReturn("Supplier not found");
 
@@ -106,7 +132,7 @@ class DogServiceImplTest {
             });
 
             assertEquals("Supplier not found", exception.getMessage());
-            verify(supplierRepository).findById(1);
+            verify(supplierRegistry).findById(1);
             verify(messageSource).getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class));
             verifyNoInteractions(dogMapper);
             verifyNoInteractions(dogRepository);
@@ -125,15 +151,17 @@ class DogServiceImplTest {
 
             assertEquals("Supplier not found", exception.getMessage());
             verify(messageSource).getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class));
-            verifyNoInteractions(supplierRepository);
+            verifyNoInteractions(supplierRegistry);
             verifyNoInteractions(dogMapper);
+            verifyNoInteractions(dogOutbox);
+            verifyNoInteractions(dogListGeneration);
             verifyNoInteractions(dogRepository);
         }
 
         @Test
         @DisplayName("Save Dog - Should set createAt when creating dog record")
         void createRecord_createAt() {
-            when(supplierRepository.findById(1)).thenReturn(Optional.of(supplier));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
             when(dogMapper.toEntity(dogDTO)).thenReturn(dog);
             when(dogMapper.toDto(dog)).thenReturn(dogDTO);
             when(dogRepository.save(any(Dog.class))).thenAnswer(invocation -> {
@@ -149,6 +177,47 @@ class DogServiceImplTest {
         }
     }
 
+    @Nested
+    class SaveDogs {
+
+        @Test
+        @DisplayName("Save Dogs - Supplier is resolved once per batch")
+        void createRecords_saveDogs() {
+            DogDTO dogDTO2 = TestUtils.getDogDTOObject();
+            dogDTO2.setName("Bella");
+            dogDTO2.setSupplierId(1);
+            Dog dog2 = TestUtils.getDogObject();
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
+            when(dogMapper.toEntity(dogDTO)).thenReturn(dog);
+            when(dogMapper.toEntity(dogDTO2)).thenReturn(dog2);
+            when(dogMapper.toDtoList(List.of(dog, dog2))).thenReturn(List.of(dogDTO, dogDTO2));
+
+            List<DogDTO> result = dogServiceImpl.createDogs(List.of(dogDTO, dogDTO2));
+
+            assertEquals(2, result.size());
+            assertEquals(supplier, dog.getSupplier());
+            assertEquals(supplier, dog2.getSupplier());
+            assertNotNull(dog.getCreatedAt());
+            verify(supplierRegistry, times(1)).findById(1);
+            verify(dogRepository).saveAll(List.of(dog, dog2));
+        }
+
+        @Test
+        @DisplayName("Save Dogs - Supplier not found")
+        void createRecords_fail() {
+            when(supplierRegistry.findById(1)).thenReturn(Optional.empty());
+            when(messageSource.getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class)))
+                    .thenReturn("Supplier not found");
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.createDogs(List.of(dogDTO)));
+
+            assertEquals("Supplier not found", exception.getMessage());
+            verifyNoInteractions(dogMapper);
+            verifyNoInteractions(dogRepository);
+        }
+    }
+
     @Nested
     class UpdateDog {
 
@@ -156,33 +225,38 @@ class DogServiceImplTest {
         @DisplayName("Update Dog - Update dog successfully")
         void testUpdateDog_Success() {
             dog.setId(1L);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
-            when(supplierRepository.findById(1)).thenReturn(Optional.of(supplier));
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
             when(dogMapper.updateEntity(dogDTO, dog)).thenReturn(dog);
             when(dogMapper.toDto(dog)).thenReturn(dogDTO);
 
-            DogDTO result = dogServiceImpl.updateDog(1L, dogDTO);
+            DogDTO result = dogServiceImpl.updateDog(1L, dogDTO, null);
 
             assertNotNull(result);
             assertEquals(dogDTO, result);
             verify(dogRepository).save(dog);
             verify(dogMapper).updateEntity(dogDTO, dog);
             verify(dogMapper).toDto(dog);
+            verify(dogFullTextIndex).put(dog);
+            verify(dogRepository).flush();
+            verify(dogOutbox).record(DogChangeType.UPDATED, dogDTO);
+            verify(dogListGeneration).advance();
         }
 
         @Test
         @DisplayName("Update Dog - Dog not found")
         void testUpdateDog_DogNotFound() {
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.empty());
+            when(dogRepository.findById(1L)).thenReturn(Optional.empty());
             when(messageSource.getMessage(eq("record.not.exist"), any(), any())).thenReturn("Dog not found");
 
             ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                    () -> dogServiceImpl.updateDog(1L, dogDTO));
+                    () -> dogServiceImpl.updateDog(1L, dogDTO, null));
 
             assertEquals("Dog not found", ex.getMessage());
-            verify(dogRepository).findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L);
+            assertEquals(0, ex.getStackTrace().length);
+            verify(dogRepository).findById(1L);
             verify(messageSource).getMessage(eq("record.not.exist"), any(), any(Locale.class));
-            verifyNoInteractions(supplierRepository);
+            verifyNoInteractions(supplierRegistry);
             verifyNoInteractions(dogMapper);
         }
 
@@ -190,16 +264,16 @@ class DogServiceImplTest {
         @DisplayName("Update Dog - Supplier not found to update dog")
         void testUpdateDog_SupplierNotFound() {
             dog.setId(1L);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
-            when(supplierRepository.findById(1)).thenReturn(Optional.empty());
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.empty());
             when(messageSource.getMessage(eq("invalid.supplier.reference"), any(), any())).thenReturn("Supplier not found");
 
             ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                    () -> dogServiceImpl.updateDog(1L, dogDTO));
+                    () -> dogServiceImpl.updateDog(1L, dogDTO, null));
 
             verify(dogRepository, never()).save(any());
             assertEquals("Supplier not found", ex.getMessage());
-            verify(dogRepository).findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L);
+            verify(dogRepository).findById(1L);
             verify(messageSource).getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class));
             verifyNoInteractions(dogMapper);
         }
@@ -209,16 +283,118 @@ class DogServiceImplTest {
         void testUpdateDog_SupplierIdIsNull() {
             dog.setId(1L);
             dogDTO.setSupplierId(null);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
             when(messageSource.getMessage(eq("invalid.supplier.reference"), any(), any())).thenReturn("Supplier not found");
 
             ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                    () -> dogServiceImpl.updateDog(1L, dogDTO));
+                    () -> dogServiceImpl.updateDog(1L, dogDTO, null));
 
             verify(dogRepository, never()).save(any());
             assertEquals("Supplier not found", ex.getMessage());
             verify(messageSource).getMessage(eq("invalid.supplier.reference"), any(), any(Locale.class));
-            verifyNoInteractions(supplierRepository);
+            verifyNoInteractions(supplierRegistry);
+            verifyNoInteractions(dogMapper);
+        }
+
+        @Test
+        @DisplayName("Update Dog - Expected version matches")
+        void testUpdateDog_VersionMatches() {
+            dog.setId(1L);
+            dog.setVersion(3L);
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
+            when(dogMapper.updateEntity(dogDTO, dog)).thenReturn(dog);
+            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
+
+            dogServiceImpl.updateDog(1L, dogDTO, 3L);
+
+            verify(dogRepository).save(dog);
+        }
+
+        @Test
+        @DisplayName("Update Dog - Stale version is rejected before any change")
+        void testUpdateDog_VersionMismatch() {
+            dog.setId(1L);
+            dog.setVersion(4L);
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(messageSource.getMessage(eq("record.modified"), any(), any(Locale.class))).thenReturn("Record modified");
+
+            PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                    () -> dogServiceImpl.updateDog(1L, dogDTO, 3L));
+
+            assertEquals("Record modified", ex.getMessage());
+            verify(dogRepository, never()).save(any());
+            verifyNoInteractions(supplierRegistry);
+            verifyNoInteractions(dogMapper);
+        }
+    }
+
+    @Nested
+    class PatchDog {
+
+        @Test
+        @DisplayName("Patch Dog - Supplier is taken from the registry when unchanged")
+        void testPatchDog_SameSupplier() {
+            dog.setId(1L);
+            dog.setSupplier(Supplier.builder().id(1).build());
+            DogDTO current = dogDTO.toBuilder().build();
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
+            when(dogMapper.toDto(dog)).thenReturn(current);
+
+            dogServiceImpl.patchDog(1L, dto -> dto.toBuilder().badgeId("K9-900").build(), null);
+
+            assertEquals(supplier, dog.getSupplier());
+            verify(supplierRegistry, times(1)).findById(1);
+            verify(dogMapper).updateEntity(argThat(dto -> "K9-900".equals(dto.getBadgeId())), eq(dog));
+            verify(dogRepository).save(dog);
+        }
+
+        @Test
+        @DisplayName("Patch Dog - Supplier is resolved when the patch changes it")
+        void testPatchDog_ChangedSupplier() {
+            Supplier kennels = Supplier.builder().id(2).supplierName("kennels").build();
+            dog.setId(1L);
+            dog.setSupplier(Supplier.builder().id(1).build());
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(supplierRegistry.findById(1)).thenReturn(Optional.of(supplier));
+            when(supplierRegistry.findById(2)).thenReturn(Optional.of(kennels));
+            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
+
+            dogServiceImpl.patchDog(1L, dto -> dto.toBuilder().supplierId(2).build(), null);
+
+            assertEquals(kennels, dog.getSupplier());
+            verify(dogRepository).save(dog);
+        }
+
+        @Test
+        @DisplayName("Patch Dog - Stale version is rejected before the patch is applied")
+        void testPatchDog_VersionMismatch() {
+            dog.setId(1L);
+            dog.setVersion(2L);
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(messageSource.getMessage(eq("record.modified"), any(), any(Locale.class))).thenReturn("Record modified");
+            AtomicBoolean applied = new AtomicBoolean();
+
+            assertThrows(PreconditionFailedException.class, () -> dogServiceImpl.patchDog(1L, dto -> {
+                applied.set(true);
+                return dto;
+            }, 1L));
+
+            assertFalse(applied.get());
+            verify(dogRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Patch Dog - Dog not found")
+        void testPatchDog_NotFound() {
+            when(dogRepository.findById(1L)).thenReturn(Optional.empty());
+            when(messageSource.getMessage(eq("record.not.exist"), any(), any(Locale.class))).thenReturn("Dog not found");
+
+            ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.patchDog(1L, dto -> dto, null));
+
+            assertEquals("Dog not found", ex.getMessage());
             verifyNoInteractions(dogMapper);
         }
     }
@@ -230,50 +406,100 @@ class DogServiceImplTest {
         @DisplayName("Delete Dog - Delete dog successfully")
         void testDeleteDog_Success() {
             dog.setId(1L);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
 
-            dogServiceImpl.deleteDog(1L);
+            dogServiceImpl.deleteDog(1L, null);
 
-            assertTrue(dog.getDeleted());
+            assertTrue(dog.isDeleted());
             verify(dogRepository).save(dog);
-            verify(dogRepository).findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L);
+            verify(dogRepository).findById(1L);
+            verify(dogFullTextIndex).remove(1L);
+            verify(dogOutbox).record(DogChangeType.DELETED, dogDTO);
+            verify(dogListGeneration).advance();
         }
 
         @Test
         @DisplayName("Delete Dog - Dog not found to delete")
         void testDeleteDog_NotFound() {
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.empty());
+            when(dogRepository.findById(1L)).thenReturn(Optional.empty());
             when(messageSource.getMessage(eq("record.not.exist"), any(), any(Locale.class))).thenReturn("Record not exist");
 
             ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                    () -> dogServiceImpl.deleteDog(1L));
+                    () -> dogServiceImpl.deleteDog(1L, null));
 
             assertEquals("Record not exist", ex.getMessage());
             verify(dogRepository, never()).save(any(Dog.class));
         }
 
         @Test
-        @DisplayName("Delete Dog - Dog is already deleted")
+        @DisplayName("Delete Dog - Dog is already deleted, as found in the second-level cache")
         void testDeleteDog_AlreadyDeleted() {
             dog.setId(1L);
             dog.setDeleted(true);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(messageSource.getMessage(eq("record.not.exist"), any(), any(Locale.class))).thenReturn("Record not exist");
 
-            dogServiceImpl.deleteDog(1L);
+            ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.deleteDog(1L, null));
 
-            assertTrue(dog.getDeleted());
-            verify(dogRepository).save(dog);
+            assertEquals("Record not exist", ex.getMessage());
+            verify(dogRepository, never()).save(any(Dog.class));
+            verifyNoInteractions(dogOutbox);
+            verifyNoInteractions(dogListGeneration);
         }
 
         @Test
         @DisplayName("Delete Dog - For any db failure")
         void testDeleteDog_RepositoryError() {
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
             doThrow(new RuntimeException("DB error")).when(dogRepository).save(any(Dog.class));
 
-            RuntimeException ex = assertThrows(RuntimeException.class, () -> dogServiceImpl.deleteDog(1L));
+            RuntimeException ex = assertThrows(RuntimeException.class, () -> dogServiceImpl.deleteDog(1L, null));
             assertEquals("DB error", ex.getMessage());
         }
+
+        @Test
+        @DisplayName("Delete Dog - Stale version is rejected")
+        void testDeleteDog_VersionMismatch() {
+            dog.setId(1L);
+            dog.setVersion(2L);
+            when(dogRepository.findById(1L)).thenReturn(Optional.of(dog));
+            when(messageSource.getMessage(eq("record.modified"), any(), any(Locale.class))).thenReturn("Record modified");
+
+            assertThrows(PreconditionFailedException.class, () -> dogServiceImpl.deleteDog(1L, 1L));
+
+            assertFalse(dog.isDeleted());
+            verify(dogRepository, never()).save(any(Dog.class));
+            verifyNoInteractions(dogOutbox);
+            verifyNoInteractions(dogListGeneration);
+        }
+    }
+
+    @Nested
+    class GetDogVersion {
+
+        @Test
+        @DisplayName("Get Dog Version - Only the version is read")
+        void testGetDogVersion_Success() {
+            when(dogRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+            assertEquals(5L, dogServiceImpl.getDogVersion(1L));
+            verify(dogRepository, never()).findActiveDtoById(any());
+            verify(dogRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Get Dog Version - Dog not found")
+        void testGetDogVersion_NotFound() {
+            when(dogRepository.findVersionById(1L)).thenReturn(Optional.empty());
+            when(messageSource.getMessage(eq("record.not.exist"), any(), any(Locale.class))).thenReturn("Dog not found");
+
+            ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.getDogVersion(1L));
+
+            assertEquals("Dog not found", ex.getMessage());
+        }
     }
 
     @Nested
@@ -282,22 +508,22 @@ class DogServiceImplTest {
         @Test
         @DisplayName("Get Dog - Get dog successfully")
         void testGetDog_Success() {
-            dog.setId(1L);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
-            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
+            dogDTO.setId(1L);
+            when(dogRepository.findActiveDtoById(1L)).thenReturn(Optional.of(dogDTO));
 
             DogDTO result = dogServiceImpl.getDog(1L);
 
             assertNotNull(result);
             assertEquals("Rex", result.getName());
-            verify(dogRepository, times(1)).findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L);
-            verify(dogMapper, times(1)).toDto(dog);
+            verify(dogRepository, times(1)).findActiveDtoById(1L);
+            verify(dogRepository, never()).findById(any());
+            verifyNoInteractions(dogMapper);
         }
 
         @Test
         @DisplayName("Get Dog - Dog not found")
         void testGetDog_NotFound() {
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.empty());
+            when(dogRepository.findActiveDtoById(1L)).thenReturn(Optional.empty());
             when(messageSource.getMessage(eq("record.not.exist"), any(), any(Locale.class)))
                     .thenReturn("Dog not found");
 
@@ -305,23 +531,9 @@ class DogServiceImplTest {
                     () -> dogServiceImpl.getDog(1L));
 
             assertEquals("Dog not found", ex.getMessage());
-            verify(dogRepository, times(1)).findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L);
+            verify(dogRepository, times(1)).findActiveDtoById(1L);
             verifyNoInteractions(dogMapper);
         }
-
-        @Test
-        @DisplayName("Get Dog - Deleted flag is null")
-        void testGetDog_DeletedFlagNull() {
-            dog.setId(1L);
-            dog.setDeleted(null);
-            when(dogRepository.findByIdAndDeletedIsFalseOrIdAndDeletedIsNull(1L, 1L)).thenReturn(Optional.of(dog));
-            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
-
-            DogDTO result = dogServiceImpl.getDog(1L);
-
-            assertNotNull(result);
-            assertEquals("Rex", result.getName());
-        }
     }
 
     @Nested
@@ -337,19 +549,16 @@ class DogServiceImplTest {
             param.setPageNum(0);
             param.setPageSize(5);
 
-            dog.setId(1L);
             dogDTO.setId(1L);
 
-            Page<Dog> dogPage = new PageImpl<>(List.of(dog));
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(dogPage);
-            when(dogMapper.toDtoList(List.of(dog))).thenReturn(List.of(dogDTO));
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(5))).thenReturn(List.of(dogDTO));
 
             List<DogDTO> result = dogServiceImpl.getDogList(param);
 
             assertEquals(1, result.size());
             assertEquals("Rex", result.get(0).getName());
-            verify(dogRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
-            verify(dogMapper, times(1)).toDtoList(anyList());
+            verify(dogRepository, times(1)).findDtos(any(Specification.class), eq(0L), eq(5));
+            verifyNoInteractions(dogMapper);
         }
 
         @Test
@@ -360,11 +569,9 @@ class DogServiceImplTest {
             param.setPageNum(0);
             param.setPageSize(10);
 
-            dog.setId(1L);
             dogDTO.setId(1L);
 
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(dog)));
-            when(dogMapper.toDtoList(List.of(dog))).thenReturn(List.of(dogDTO));
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(10))).thenReturn(List.of(dogDTO));
 
             List<DogDTO> result = dogServiceImpl.getDogList(param);
 
@@ -379,8 +586,7 @@ class DogServiceImplTest {
             param.setPageNum(0);
             param.setPageSize(5);
 
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(Collections.emptyList()));
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(5))).thenReturn(Collections.emptyList());
             when(messageSource.getMessage(eq("records.not.found"), any(), any()))
                     .thenReturn("No records found");
 
@@ -389,6 +595,21 @@ class DogServiceImplTest {
             });
 
             assertEquals("No records found", exception.getMessage());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Get Dog List - No records found returns an empty list when configured")
+        void testGetDogList_NoResults_EmptyList() {
+            DogServiceImpl service = new DogServiceImpl(supplierRegistry, dogRepository, messageSource, dogMapper,
+                    dogFullTextIndex, dogOutbox, new DogSearchProperties(false), dogListGeneration);
+            SearchParam param = new SearchParam();
+            param.setPageNum(0);
+            param.setPageSize(5);
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(5))).thenReturn(Collections.emptyList());
+
+            assertEquals(List.of(), service.getDogList(param));
+            verifyNoInteractions(messageSource);
         }
 
         @Test
@@ -401,17 +622,14 @@ class DogServiceImplTest {
             param.setPageNum(0);
             param.setPageSize(2);
 
-            dog.setId(1L);
             dogDTO.setId(1L);
 
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(dog)));
-            when(dogMapper.toDtoList(List.of(dog))).thenReturn(List.of(dogDTO));
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(2))).thenReturn(List.of(dogDTO));
 
             List<DogDTO> result = dogServiceImpl.getDogList(param);
 
             assertEquals(1, result.size());
-            verify(dogRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+            verify(dogRepository, times(1)).findDtos(any(Specification.class), eq(0L), eq(2));
         }
 
         @Test
@@ -421,12 +639,9 @@ class DogServiceImplTest {
             param.setPageNum(0);
             param.setPageSize(1);
 
-            dog.setId(1L);
             dogDTO.setId(1L);
 
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(dog)));
-            when(dogMapper.toDtoList(List.of(dog))).thenReturn(List.of(dogDTO));
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(1))).thenReturn(List.of(dogDTO));
 
             List<DogDTO> result = dogServiceImpl.getDogList(param);
 
@@ -434,26 +649,188 @@ class DogServiceImplTest {
         }
 
         @Test
-        @DisplayName("Get Dog List - Mapper return empty list")
-        void testGetDogList_MapperReturnsEmpty_ThrowsException() {
+        @DisplayName("Get Dog List - Page number is converted to a row offset")
+        void testGetDogList_Offset() {
             SearchParam param = new SearchParam();
-            param.setPageNum(0);
+            param.setPageNum(3);
             param.setPageSize(5);
 
-            dog.setId(1L);
+            dogDTO.setId(16L);
+
+            when(dogRepository.findDtos(any(Specification.class), eq(15L), eq(5))).thenReturn(List.of(dogDTO));
+
+            List<DogDTO> result = dogServiceImpl.getDogList(param);
+
+            assertEquals(16L, result.get(0).getId());
+        }
+
+    }
+
+    @Nested
+    class GetDogSlice {
+
+        @Test
+        @DisplayName("Get Dog Slice - Extra row signals next page")
+        void testGetDogSlice_HasNext() {
+            SearchParam param = new SearchParam();
+            param.setPageSize(1);
+
+            DogDTO nextDTO = dogDTO.toBuilder().id(2L).build();
+            dogDTO.setId(1L);
+
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(2))).thenReturn(List.of(dogDTO, nextDTO));
+
+            DogSlice result = dogServiceImpl.getDogSlice(param, null);
+
+            assertEquals(List.of(dogDTO), result.content());
+            assertTrue(result.hasNext());
+        }
+
+        @Test
+        @DisplayName("Get Dog Slice - Last page")
+        void testGetDogSlice_LastPage() {
+            SearchParam param = new SearchParam();
+            param.setPageSize(5);
+
+            dogDTO.setId(7L);
+
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(6))).thenReturn(List.of(dogDTO));
+
+            DogSlice result = dogServiceImpl.getDogSlice(param, 6L);
 
-            when(dogRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(dog)));
-            when(dogMapper.toDtoList(anyList())).thenReturn(Collections.emptyList());
+            assertEquals(1, result.content().size());
+            assertFalse(result.hasNext());
+        }
+
+        @Test
+        @DisplayName("Get Dog Slice - No records after cursor")
+        void testGetDogSlice_NoResults_ThrowsException() {
+            SearchParam param = new SearchParam();
+            param.setPageSize(5);
+
+            when(dogRepository.findDtos(any(Specification.class), eq(0L), eq(6))).thenReturn(Collections.emptyList());
             when(messageSource.getMessage(eq("records.not.found"), any(), any()))
                     .thenReturn("No records found");
 
-            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
-                dogServiceImpl.getDogList(param);
-            });
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.getDogSlice(param, 100L));
 
             assertEquals("No records found", exception.getMessage());
         }
+    }
+
+    @Nested
+    class SearchDogs {
+
+        @Test
+        @DisplayName("Search Dogs - Records are returned in rank order")
+        void testSearchDogs_RankOrder() {
+            DogDTO first = DogDTO.builder().id(7L).name("Rocky").build();
+            DogDTO second = DogDTO.builder().id(3L).name("Max").build();
+            when(dogFullTextIndex.search("malinois", 10)).thenReturn(List.of(7L, 3L, 9L));
+            when(dogRepository.findDtosByIds(List.of(7L, 3L, 9L))).thenReturn(List.of(second, first));
+
+            List<DogDTO> result = dogServiceImpl.searchDogs("malinois", 10);
+
+            // Dog 9 was removed behind the index and is dropped
+            assertEquals(List.of(first, second), result);
+            verify(dogRepository, never()).findDtos(any(), any(Long.class), any(Integer.class));
+        }
+
+        @Test
+        @DisplayName("Search Dogs - No match")
+        void testSearchDogs_NoResults_ThrowsException() {
+            when(dogFullTextIndex.search("poodle", 10)).thenReturn(List.of());
+            when(dogRepository.findDtosByIds(List.of())).thenReturn(List.of());
+            when(messageSource.getMessage(eq("records.not.found"), any(), any(Locale.class))).thenReturn("No records");
+
+            ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                    () -> dogServiceImpl.searchDogs("poodle", 10));
+
+            assertEquals("No records", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Search Dogs - No match returns an empty list when configured")
+        void testSearchDogs_NoResults_EmptyList() {
+            DogServiceImpl service = new DogServiceImpl(supplierRegistry, dogRepository, messageSource, dogMapper,
+                    dogFullTextIndex, dogOutbox, new DogSearchProperties(false), dogListGeneration);
+            when(dogFullTextIndex.search("poodle", 10)).thenReturn(List.of());
+            when(dogRepository.findDtosByIds(List.of())).thenReturn(List.of());
+
+            assertEquals(List.of(), service.searchDogs("poodle", 10));
+            verifyNoInteractions(messageSource);
+        }
+    }
+
+    @Nested
+    class GetDogFacets {
+
+        @Test
+        @DisplayName("Get Dog Facets - Every facet is counted with the same specification")
+        void testGetDogFacets_Success() {
+            List<FacetCount> statusCounts = List.of(new FacetCount("IN_SERVICE", 3), new FacetCount("RETIRED", 1));
+            List<FacetCount> breedCounts = List.of(new FacetCount("Belgian Malinois", 4));
+            List<FacetCount> genderCounts = List.of(new FacetCount("MALE", 3), new FacetCount(null, 1));
+            List<FacetCount> supplierCounts = List.of(new FacetCount("breeder", 4));
+            when(dogRepository.countBy(any(Specification.class), eq(DogFacet.CURRENT_STATUS))).thenReturn(statusCounts);
+            when(dogRepository.countBy(any(Specification.class), eq(DogFacet.BREED))).thenReturn(breedCounts);
+            when(dogRepository.countBy(any(Specification.class), eq(DogFacet.GENDER))).thenReturn(genderCounts);
+            when(dogRepository.countBy(any(Specification.class), eq(DogFacet.SUPPLIER))).thenReturn(supplierCounts);
+
+            DogFacets result = dogServiceImpl.getDogFacets(SearchParam.builder().breed("Belgian Malinois").build());
+
+            assertEquals(new DogFacets(statusCounts, breedCounts, genderCounts, supplierCounts), result);
+            verify(dogRepository, never()).findDtos(any(), any(Long.class), any(Integer.class));
+        }
+
+        @Test
+        @DisplayName("Get Dog Facets - No matching records is not an error")
+        void testGetDogFacets_Empty() {
+            when(dogRepository.countBy(any(Specification.class), any(DogFacet.class))).thenReturn(List.of());
+
+            DogFacets result = dogServiceImpl.getDogFacets(new SearchParam());
+
+            assertTrue(result.currentStatus().isEmpty());
+            assertTrue(result.supplier().isEmpty());
+        }
+    }
+
+    @Nested
+    class ExportDogs {
+
+        @Test
+        @DisplayName("Export Dogs - Every streamed record is passed to the consumer and the stream is closed")
+        void testExportDogs_Success() {
+            Dog next = TestUtils.getDogObject();
+            dog.setId(1L);
+            next.setId(2L);
+            DogDTO nextDTO = dogDTO.toBuilder().id(2L).build();
+            dogDTO.setId(1L);
+
+            AtomicBoolean closed = new AtomicBoolean();
+            when(dogRepository.streamAll(any(Specification.class)))
+                    .thenReturn(Stream.of(dog, next).onClose(() -> closed.set(true)));
+            when(dogMapper.toDto(dog)).thenReturn(dogDTO);
+            when(dogMapper.toDto(next)).thenReturn(nextDTO);
+
+            List<DogDTO> exported = new ArrayList<>();
+            long count = dogServiceImpl.exportDogs(new SearchParam(), exported::add);
+
+            assertEquals(2, count);
+            assertEquals(List.of(dogDTO, nextDTO), exported);
+            assertTrue(closed.get());
+        }
+
+        @Test
+        @DisplayName("Export Dogs - No matching records is not an error")
+        void testExportDogs_Empty() {
+            when(dogRepository.streamAll(any(Specification.class))).thenReturn(Stream.empty());
 
+            long count = dogServiceImpl.exportDogs(new SearchParam(), dto -> {});
+
+            assertEquals(0, count);
+            verifyNoInteractions(dogMapper);
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.polaris.police.dogsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.polaris.police.dogsapi.TestUtils;
+import com.polaris.police.dogsapi.model.db.entity.Supplier;
+import com.polaris.police.dogsapi.model.db.repository.SupplierRepository;
+import com.polaris.police.dogsapi.service.impl.SupplierRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class SupplierRegistryTest {
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    @InjectMocks
+    private SupplierRegistry supplierRegistry;
+
+    private Supplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        supplier = TestUtils.getSupplierObject();
+    }
+
+    @Test
+    @DisplayName("Supplier Registry - Resolve loaded supplier without database lookup")
+    void testFindById_Loaded() {
+        when(supplierRepository.findAll()).thenReturn(List.of(supplier));
+        supplierRegistry.refresh();
+
+        Optional<Supplier> result = supplierRegistry.findById(1);
+
+        assertTrue(result.isPresent());
+        assertSame(supplier, result.get());
+        verify(supplierRepository, never()).findById(1);
+    }
+
+    @Test
+    @DisplayName("Supplier Registry - Reload when a new supplier is referenced")
+    void testFindById_NewSupplier() {
+        Supplier kennels = Supplier.builder().id(2).supplierName("Kennels").build();
+        when(supplierRepository.findAll()).thenReturn(List.of(supplier)).thenReturn(List.of(supplier, kennels));
+        when(supplierRepository.findById(2)).thenReturn(Optional.of(kennels));
+        supplierRegistry.refresh();
+
+        assertEquals(Optional.of(kennels), supplierRegistry.findById(2));
+        assertEquals(Optional.of(kennels), supplierRegistry.findById(2));
+
+        verify(supplierRepository, times(1)).findById(2);
+        verify(supplierRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Supplier Registry - Unknown supplier is looked up once")
+    void testFindById_Unknown() {
+        when(supplierRepository.findAll()).thenReturn(List.of(supplier));
+        when(supplierRepository.findById(9)).thenReturn(Optional.empty());
+        supplierRegistry.refresh();
+
+        assertTrue(supplierRegistry.findById(9).isEmpty());
+        assertTrue(supplierRegistry.findById(9).isEmpty());
+        verify(supplierRepository, times(1)).findById(9);
+        verify(supplierRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Supplier Registry - Refresh forgets unknown suppliers")
+    void testFindById_UnknownAfterRefresh() {
+        Supplier kennels = Supplier.builder().id(2).supplierName("Kennels").build();
+        when(supplierRepository.findAll()).thenReturn(List.of(supplier)).thenReturn(List.of(supplier, kennels));
+        when(supplierRepository.findById(2)).thenReturn(Optional.empty());
+        supplierRegistry.refresh();
+        assertTrue(supplierRegistry.findById(2).isEmpty());
+
+        supplierRegistry.refresh();
+
+        assertEquals(Optional.of(kennels), supplierRegistry.findById(2));
+        verify(supplierRepository, times(1)).findById(2);
+    }
+}
@@ -0,0 +1,144 @@
+package com.polaris.police.dogsapi.validator;
+
+import com.polaris.police.dogsapi.model.enums.DogStatus;
+import com.polaris.police.dogsapi.model.enums.Gender;
+import com.polaris.police.dogsapi.model.enums.LeavingReason;
+import com.polaris.police.dogsapi.model.request.DogDTO;
+import com.polaris.police.dogsapi.model.request.validator.PrecompiledValidator;
+import com.polaris.police.dogsapi.model.response.FieldErrorResponse;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PrecompiledValidatorTest {
+
+    private final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final LocalValidatorFactoryBean validatorFactory;
+
+    PrecompiledValidatorTest() {
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        // EnumValueValidator gets the message source injected
+        context.registerBean("messageSource", MessageSource.class, () -> messageSource);
+        context.registerBean(LocalValidatorFactoryBean.class, () -> {
+            LocalValidatorFactoryBean factoryBean = new LocalValidatorFactoryBean();
+            factoryBean.setValidationMessageSource(messageSource);
+            return factoryBean;
+        });
+        context.refresh();
+        validatorFactory = context.getBean(LocalValidatorFactoryBean.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Precompiled validator - Errors are the same as Bean Validation")
+    void testSameErrors() {
+        PrecompiledValidator precompiled = new PrecompiledValidator(validatorFactory, DogDTO.class);
+        SpringValidatorAdapter reflective = new SpringValidatorAdapter(validatorFactory);
+        assertTrue(precompiled.hasPlan(DogDTO.class));
+
+        List<Consumer<DogDTO>> changes = List.of(
+                dog -> { },
+                dog -> dog.setName("a".repeat(200)),
+                dog -> dog.setName("a".repeat(201)),
+                dog -> dog.setKennellingCharacteristic("a".repeat(501)),
+                dog -> dog.setSupplierId(null),
+                dog -> dog.setCurrentStatus(null),
+                dog -> dog.setLeavingReason(null),
+                dog -> dog.setBirthDate(LocalDate.now()),
+                dog -> dog.setBirthDate(LocalDate.now().plusDays(1)),
+                dog -> dog.setDateAcquired(LocalDate.now().plusDays(1)),
+                dog -> {
+                    dog.setBreed("b".repeat(300));
+                    dog.setBadgeId("c".repeat(201));
+                    dog.setSupplierId(null);
+                    dog.setCurrentStatus(null);
+                }
+        );
+        for (Consumer<DogDTO> change : changes) {
+            DogDTO dog = validDog();
+            change.accept(dog);
+            assertEquals(fieldErrors(reflective, dog), fieldErrors(precompiled, dog), dog::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("Precompiled validator - Valid records do not reach Bean Validation")
+    void testValidRecordSkipsValidator() {
+        Validator validator = mock(Validator.class, AdditionalAnswers.delegatesTo(validatorFactory));
+        PrecompiledValidator precompiled = new PrecompiledValidator(validator, DogDTO.class);
+
+        assertTrue(precompiled.validate(validDog()).isEmpty());
+        Errors errors = new BeanPropertyBindingResult(validDog(), "dogDTO");
+        precompiled.validate(validDog(), errors);
+
+        assertFalse(errors.hasErrors());
+        verify(validator, never()).validate(any(), any(Class[].class));
+
+        DogDTO invalid = validDog();
+        invalid.setSupplierId(null);
+        assertEquals(1, precompiled.validate(invalid).size());
+    }
+
+    @Test
+    @DisplayName("Precompiled validator - Classes with unsupported constraints are left to Bean Validation")
+    void testUnsupportedClass() {
+        PrecompiledValidator precompiled = new PrecompiledValidator(validatorFactory, Unsupported.class);
+
+        assertFalse(precompiled.hasPlan(Unsupported.class));
+        assertEquals(1, precompiled.validate(new Unsupported("x")).size());
+    }
+
+    private Set<FieldErrorResponse> fieldErrors(org.springframework.validation.Validator validator, DogDTO dog) {
+        Errors errors = new BeanPropertyBindingResult(dog, "dogDTO");
+        validator.validate(dog, errors);
+        Set<FieldErrorResponse> fieldErrors = new HashSet<>();
+        errors.getFieldErrors().forEach(err ->
+                fieldErrors.add(new FieldErrorResponse(err.getField(), messageSource.getMessage(err, Locale.UK))));
+        return fieldErrors;
+    }
+
+    private static DogDTO validDog() {
+        return DogDTO.builder()
+                .name("Rex")
+                .breed("German Shepherd")
+                .supplierId(1)
+                .badgeId("K9-001")
+                .birthDate(LocalDate.now().minusYears(3))
+                .dateAcquired(LocalDate.now().minusYears(2))
+                .gender(Gender.MALE)
+                .currentStatus(DogStatus.IN_SERVICE)
+                .leavingReason(LeavingReason.TRANSFERRED)
+                .kennellingCharacteristic("Calm")
+                .build();
+    }
+
+    private record Unsupported(@jakarta.validation.constraints.Email String email) {
+    }
+}
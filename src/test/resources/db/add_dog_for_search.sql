@@ -27,21 +27,21 @@ INSERT INTO dogs (id, name, breed, supplier_id, badge_id, birth_date, date_acqui
 (26, 'Rex', 'German Shepherd', 1, 'K9-026', '2020-04-12', '2021-01-10', 'MALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Strong, obedient, and alert.', FALSE, NOW()),
 (27, 'Bella', 'Belgian Malinois', 2, 'K9-027', '2019-08-09', '2020-05-14', 'FEMALE', 'RETIRED', 'RETIRED_PUT_DOWN', '2024-06-18', 'High energy and focused.', TRUE, NOW()),
 (28, 'Max', 'Labrador Retriever', 1, 'K9-028', '2021-02-22', '2021-12-05', 'MALE', 'IN_TRAINING', NULL, NULL, 'Excellent scent tracking ability.', FALSE, NOW()),
-(29, 'Lucy', 'Beagle', 2, 'K9-029', '2020-10-01', '2021-06-20', 'FEMALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Curious and alert.', NULL, NOW()),
+(29, 'Lucy', 'Beagle', 2, 'K9-029', '2020-10-01', '2021-06-20', 'FEMALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Curious and alert.', FALSE, NOW()),
 (30, 'Charlie', 'German Shepherd', 2, 'K9-030', '2018-07-15', '2019-03-25', 'MALE', 'LEFT', 'REJECTED', '2020-11-02', 'Strong and assertive.', FALSE, NOW()),
 (31, 'Daisy', 'Cocker Spaniel', 1, 'K9-031', '2019-11-09', '2020-09-15', 'FEMALE', 'RETIRED', 'RETIRED_RE_HOUSED', '2024-03-11', 'Friendly and gentle temperament.', TRUE, NOW()),
 (32, 'Rocky', 'Belgian Malinois', 1, 'K9-032', '2021-03-28', '2022-01-20', 'MALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Loyal and energetic.', FALSE, NOW()),
-(33, 'Molly', 'Labrador Retriever', 1, 'K9-033', '2020-05-30', '2021-02-18', 'FEMALE', 'IN_TRAINING', NULL, NULL, 'Calm and sociable.', NULL, NOW()),
+(33, 'Molly', 'Labrador Retriever', 1, 'K9-033', '2020-05-30', '2021-02-18', 'FEMALE', 'IN_TRAINING', NULL, NULL, 'Calm and sociable.', FALSE, NOW()),
 (34, 'Duke', 'German Shepherd', 2, 'K9-034', '2019-01-07', '2019-12-03', 'MALE', 'RETIRED', 'KIA', '2023-09-10', 'Courageous and disciplined.', FALSE, NOW()),
 (35, 'Luna', 'Beagle', 2, 'K9-035', '2020-06-22', '2021-04-12', 'FEMALE', 'LEFT', 'DIED', '2022-11-25', 'Playful and smart.', TRUE, NOW()),
-(36, 'Buddy', 'Golden Retriever', 2, 'K9-036', '2021-09-15', '2022-06-22', 'MALE', 'IN_TRAINING', 'KIA', NULL, 'Very social and calm under stress.', NULL, NOW()),
+(36, 'Buddy', 'Golden Retriever', 2, 'K9-036', '2021-09-15', '2022-06-22', 'MALE', 'IN_TRAINING', 'KIA', NULL, 'Very social and calm under stress.', FALSE, NOW()),
 (37, 'Sadie', 'Labrador Retriever', 2, 'K9-037', '2018-03-18', '2019-01-19', 'FEMALE', 'RETIRED', 'RETIRED_PUT_DOWN', '2024-04-09', 'Excellent obedience and recall.', FALSE, NOW()),
 (38, 'Zeus', 'Rottweiler', 1, 'K9-038', '2019-12-25', '2020-09-01', 'MALE', 'LEFT', 'REJECTED', '2021-08-10', 'Protective and assertive.', TRUE, NOW()),
 (39, 'Chloe', 'German Shepherd', 2, 'K9-039', '2020-01-30', '2021-02-15', 'FEMALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Focused and loyal.', FALSE, NOW()),
-(40, 'Toby', 'Labrador Retriever', 1, 'K9-040', '2021-07-05', '2022-02-20', NULL, 'IN_TRAINING', NULL, NULL, 'Good endurance and quick learner.', NULL, NOW()),
+(40, 'Toby', 'Labrador Retriever', 1, 'K9-040', '2021-07-05', '2022-02-20', NULL, 'IN_TRAINING', NULL, NULL, 'Good endurance and quick learner.', FALSE, NOW()),
 (41, 'Nala', 'Beagle', 2, 'K9-041', '2019-05-10', '2020-02-11', 'FEMALE', 'RETIRED', 'RETIRED_RE_HOUSED', '2023-07-12', 'Curious and intelligent.', FALSE, NOW()),
 (42, 'Cooper', 'German Shepherd', 1, 'K9-042', '2020-09-27', '2021-05-22', 'MALE', 'IN_SERVICE', 'TRANSFERRED', NULL, 'Strong drive and loyal.', TRUE, NOW()),
-(43, 'Ruby', 'Belgian Malinois', 2, 'K9-043', '2018-08-03', '2019-05-17', 'FEMALE', 'LEFT', 'DIED', '2022-09-09', 'Fast learner with high stamina.', NULL, NOW()),
+(43, 'Ruby', 'Belgian Malinois', 2, 'K9-043', '2018-08-03', '2019-05-17', 'FEMALE', 'LEFT', 'DIED', '2022-09-09', 'Fast learner with high stamina.', FALSE, NOW()),
 (44, 'Oscar', 'Rottweiler', 2, 'K9-044', '2020-11-12', '2021-09-03', 'MALE', 'RETIRED', 'KIA', '2023-02-21', 'Brave and responsive to commands.', TRUE, NOW()),
 (45, 'Lily', 'Golden Retriever', 1, 'K9-045', '2021-10-24', '2022-07-13', 'FEMALE', 'IN_TRAINING', NULL, NULL, 'Gentle, obedient, and stable under pressure.', TRUE, NOW());
 
@@ -1,2 +1,3 @@
+DELETE FROM dog_outbox;
 DELETE FROM dogs;
 DELETE FROM supplier;
\ No newline at end of file